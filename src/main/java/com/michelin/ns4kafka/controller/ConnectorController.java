@@ -224,8 +224,9 @@ public class ConnectorController extends NamespacedResourceController {
                     .success(true)
                     .code(success.status())
                     .build());
-                changeConnectorState.setMetadata(optionalConnector.get().getMetadata());
-                changeConnectorState.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
+                changeConnectorState.setMetadata(optionalConnector.get().getMetadata().toBuilder()
+                    .creationTimestamp(Date.from(Instant.now()))
+                    .build());
             })
             .doOnError(error -> {
                 changeConnectorState.setStatus(ChangeConnectorState.ChangeConnectorStateStatus.builder()
@@ -233,8 +234,9 @@ public class ConnectorController extends NamespacedResourceController {
                     .code(HttpStatus.INTERNAL_SERVER_ERROR)
                     .errorMessage(error.getMessage())
                     .build());
-                changeConnectorState.setMetadata(optionalConnector.get().getMetadata());
-                changeConnectorState.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
+                changeConnectorState.setMetadata(optionalConnector.get().getMetadata().toBuilder()
+                    .creationTimestamp(Date.from(Instant.now()))
+                    .build());
             })
             .map(httpResponse -> HttpResponse.ok(changeConnectorState))
             .onErrorReturn(HttpResponse.ok(changeConnectorState));
@@ -1,16 +1,22 @@
 package com.michelin.ns4kafka.controller;
 
 import static com.michelin.ns4kafka.util.FormatErrorUtils.invalidOwner;
+import static com.michelin.ns4kafka.util.FormatErrorUtils.invalidSchemaDuplicate;
+import static com.michelin.ns4kafka.util.FormatErrorUtils.invalidSchemaReference;
+import static com.michelin.ns4kafka.util.FormatErrorUtils.invalidSchemaReferenceCycle;
 import static com.michelin.ns4kafka.util.enumation.Kind.SCHEMA;
 
 import com.michelin.ns4kafka.controller.generic.NamespacedResourceController;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.schema.Schema;
+import com.michelin.ns4kafka.model.schema.SchemaApplyResponse;
 import com.michelin.ns4kafka.model.schema.SchemaCompatibilityState;
 import com.michelin.ns4kafka.model.schema.SchemaList;
 import com.michelin.ns4kafka.service.SchemaService;
 import com.michelin.ns4kafka.util.enumation.ApplyStatus;
 import com.michelin.ns4kafka.util.exception.ResourceValidationException;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.annotation.Body;
@@ -27,9 +33,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -43,6 +58,9 @@ public class SchemaController extends NamespacedResourceController {
     @Inject
     SchemaService schemaService;
 
+    @Property(name = "ns4kafka.schema.apply-concurrency", defaultValue = "4")
+    int applyConcurrency;
+
     /**
      * List schemas by namespace.
      *
@@ -83,59 +101,69 @@ public class SchemaController extends NamespacedResourceController {
     @Post
     public Mono<HttpResponse<Schema>> apply(String namespace, @Valid @Body Schema schema,
                                             @QueryValue(defaultValue = "false") boolean dryrun) {
+        return applySchema(getNamespace(namespace), schema, dryrun, Set.of())
+            .map(status -> formatHttpResponse(schema, status));
+    }
+
+    /**
+     * Publish a batch of schemas.
+     * A schema is applied once the schemas of the batch it references are applied.
+     * The schemas that do not depend on each other are checked and registered in parallel.
+     *
+     * @param namespace The namespace
+     * @param schemas   The schemas to create
+     * @param dryrun    Does the creation is a dry run
+     * @return The result of each schema
+     */
+    @Post("/_/batch{?dryrun}")
+    public Mono<List<SchemaApplyResponse>> applyAll(String namespace, @Valid @Body List<Schema> schemas,
+                                                    @QueryValue(defaultValue = "false") boolean dryrun) {
         Namespace ns = getNamespace(namespace);
 
-        if (!schemaService.isNamespaceOwnerOfSubject(ns, schema.getMetadata().getName())) {
-            return Mono.error(new ResourceValidationException(schema,
-                invalidOwner(schema.getMetadata().getName())));
+        Map<String, Schema> batch = new LinkedHashMap<>();
+        for (Schema schema : schemas) {
+            if (batch.putIfAbsent(schema.getMetadata().getName(), schema) != null) {
+                return Mono.error(new ResourceValidationException(schema,
+                    invalidSchemaDuplicate(schema.getMetadata().getName())));
+            }
         }
 
-        return schemaService.validateSchema(ns, schema)
-            .flatMap(errors -> {
-                if (!errors.isEmpty()) {
-                    return Mono.error(
-                        new ResourceValidationException(schema, errors));
-                }
+        Map<String, SchemaApplyResponse> responses = new ConcurrentHashMap<>();
+        List<List<Schema>> levels = sortByReferences(batch);
 
-                return schemaService.getAllSubjectVersions(ns, schema.getMetadata().getName())
-                    .collectList()
-                    .flatMap(oldSchemas -> schemaService.existInOldVersions(ns, schema, oldSchemas)
-                        .flatMap(exist -> {
-                            if (Boolean.TRUE.equals(exist)) {
-                                return Mono.just(formatHttpResponse(schema, ApplyStatus.unchanged));
-                            }
-
-                            return schemaService
-                                .validateSchemaCompatibility(ns.getMetadata().getCluster(), schema)
-                                .flatMap(validationErrors -> {
-                                    if (!validationErrors.isEmpty()) {
-                                        return Mono.error(new ResourceValidationException(schema, validationErrors));
-                                    }
-
-                                    schema.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
-                                    schema.getMetadata().setCluster(ns.getMetadata().getCluster());
-                                    schema.getMetadata().setNamespace(ns.getMetadata().getName());
+        return Flux.fromIterable(levels)
+            .concatMap(level -> Flux.fromIterable(level)
+                .flatMap(schema -> {
+                    Optional<Schema.SchemaSpec.Reference> failedReference = getBatchReferences(schema, batch)
+                        .filter(reference -> !responses.get(reference.getSubject()).getSpec().getErrors().isEmpty())
+                        .findFirst();
 
-                                    ApplyStatus status =
-                                        oldSchemas.isEmpty() ? ApplyStatus.created : ApplyStatus.changed;
-                                    if (dryrun) {
-                                        return Mono.just(formatHttpResponse(schema, status));
-                                    }
+                    if (failedReference.isPresent()) {
+                        return Mono.just(buildApplyResponse(schema, null,
+                            List.of(invalidSchemaReference(failedReference.get().getSubject(),
+                                String.valueOf(failedReference.get().getVersion())))));
+                    }
 
-                                    return schemaService
-                                        .register(ns, schema)
-                                        .map(id -> {
-                                            sendEventLog(schema, status,
-                                                oldSchemas.isEmpty() ? null : oldSchemas.stream()
-                                                    .max(Comparator.comparingInt(
-                                                        (Schema s) -> s.getSpec().getId())),
-                                                schema.getSpec());
+                    // In dry run, the referenced subjects of the batch are validated but not registered
+                    Set<String> validatedSubjects = dryrun
+                        ? getBatchReferences(schema, batch)
+                            .map(Schema.SchemaSpec.Reference::getSubject)
+                            .collect(Collectors.toSet())
+                        : Set.of();
 
-                                            return formatHttpResponse(schema, status);
-                                        });
-                                });
-                        }));
-            });
+                    return applySchema(ns, schema, dryrun, validatedSubjects)
+                        .map(status -> buildApplyResponse(schema, status, List.of()))
+                        .onErrorResume(error -> Mono.just(buildApplyResponse(schema, null,
+                            error instanceof ResourceValidationException validationException
+                                ? validationException.getValidationErrors()
+                                : List.of(String.valueOf(error.getMessage())))));
+                }, Math.max(applyConcurrency, 1))
+                .doOnNext(response -> responses.put(response.getMetadata().getName(), response)))
+            .then(Mono.fromSupplier(() -> batch.values()
+                .stream()
+                .map(schema -> responses.computeIfAbsent(schema.getMetadata().getName(),
+                    subject -> buildApplyResponse(schema, null, List.of(invalidSchemaReferenceCycle(subject)))))
+                .toList()));
     }
 
     /**
@@ -224,4 +252,142 @@ public class SchemaController extends NamespacedResourceController {
                     });
             });
     }
+
+    /**
+     * Validate and publish a schema.
+     *
+     * @param ns                The namespace
+     * @param schema            The schema to create
+     * @param dryrun            Does the creation is a dry run
+     * @param validatedSubjects The referenced subjects already validated, not looked up in the Schema Registry
+     * @return The apply status
+     */
+    private Mono<ApplyStatus> applySchema(Namespace ns, Schema schema, boolean dryrun,
+                                          Set<String> validatedSubjects) {
+        if (!schemaService.isNamespaceOwnerOfSubject(ns, schema.getMetadata().getName())) {
+            return Mono.error(new ResourceValidationException(schema,
+                invalidOwner(schema.getMetadata().getName())));
+        }
+
+        return schemaService.validateSchema(ns, schema, validatedSubjects)
+            .flatMap(errors -> {
+                if (!errors.isEmpty()) {
+                    return Mono.error(
+                        new ResourceValidationException(schema, errors));
+                }
+
+                return schemaService.getAllSubjectVersions(ns, schema.getMetadata().getName())
+                    .collectList()
+                    .flatMap(oldSchemas -> schemaService.existInOldVersions(ns, schema, oldSchemas)
+                        .flatMap(exist -> {
+                            if (Boolean.TRUE.equals(exist)) {
+                                return Mono.just(ApplyStatus.unchanged);
+                            }
+
+                            return schemaService
+                                .validateSchemaCompatibility(ns.getMetadata().getCluster(), schema)
+                                .flatMap(validationErrors -> {
+                                    if (!validationErrors.isEmpty()) {
+                                        return Mono.error(new ResourceValidationException(schema, validationErrors));
+                                    }
+
+                                    schema.getMetadata().setCreationTimestamp(Date.from(Instant.now()));
+                                    schema.getMetadata().setCluster(ns.getMetadata().getCluster());
+                                    schema.getMetadata().setNamespace(ns.getMetadata().getName());
+
+                                    ApplyStatus status =
+                                        oldSchemas.isEmpty() ? ApplyStatus.created : ApplyStatus.changed;
+                                    if (dryrun) {
+                                        return Mono.just(status);
+                                    }
+
+                                    return schemaService
+                                        .register(ns, schema)
+                                        .map(id -> {
+                                            sendEventLog(schema, status,
+                                                oldSchemas.isEmpty() ? null : oldSchemas.stream()
+                                                    .max(Comparator.comparingInt(
+                                                        (Schema s) -> s.getSpec().getId())),
+                                                schema.getSpec());
+
+                                            return status;
+                                        });
+                                });
+                        }));
+            });
+    }
+
+    /**
+     * Sort the schemas of a batch by levels of references.
+     * The schemas of a level only reference subjects of the previous levels.
+     * The schemas involved in a circular reference are left out.
+     *
+     * @param batch The schemas by subject
+     * @return The levels of schemas
+     */
+    private List<List<Schema>> sortByReferences(Map<String, Schema> batch) {
+        Map<String, Set<String>> pending = new LinkedHashMap<>();
+        batch.values().forEach(schema -> pending.put(schema.getMetadata().getName(),
+            getBatchReferences(schema, batch)
+                .map(Schema.SchemaSpec.Reference::getSubject)
+                .collect(Collectors.toSet())));
+
+        List<List<Schema>> levels = new ArrayList<>();
+        Set<String> sorted = new HashSet<>();
+        while (!pending.isEmpty()) {
+            List<Schema> level = pending.entrySet()
+                .stream()
+                .filter(entry -> sorted.containsAll(entry.getValue()))
+                .map(entry -> batch.get(entry.getKey()))
+                .toList();
+
+            if (level.isEmpty()) {
+                break;
+            }
+
+            level.forEach(schema -> {
+                pending.remove(schema.getMetadata().getName());
+                sorted.add(schema.getMetadata().getName());
+            });
+            levels.add(level);
+        }
+
+        return levels;
+    }
+
+    /**
+     * Get the references of a schema to other subjects of the batch.
+     *
+     * @param schema The schema
+     * @param batch  The schemas by subject
+     * @return The references
+     */
+    private Stream<Schema.SchemaSpec.Reference> getBatchReferences(Schema schema, Map<String, Schema> batch) {
+        if (CollectionUtils.isEmpty(schema.getSpec().getReferences())) {
+            return Stream.empty();
+        }
+
+        return schema.getSpec().getReferences()
+            .stream()
+            .filter(reference -> !reference.getSubject().equals(schema.getMetadata().getName())
+                && batch.containsKey(reference.getSubject()));
+    }
+
+    /**
+     * Build the apply response of a schema.
+     *
+     * @param schema The schema
+     * @param status The apply status
+     * @param errors The errors
+     * @return The apply response
+     */
+    private SchemaApplyResponse buildApplyResponse(Schema schema, ApplyStatus status, List<String> errors) {
+        return SchemaApplyResponse.builder()
+            .metadata(schema.getMetadata())
+            .spec(SchemaApplyResponse.SchemaApplyResponseSpec.builder()
+                .status(status)
+                .errors(errors)
+                .build())
+            .build();
+    }
 }
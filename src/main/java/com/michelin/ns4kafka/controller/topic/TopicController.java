@@ -208,13 +208,9 @@ public class TopicController extends NamespacedResourceController {
             return unsynchronizedTopics;
         }
 
-        return unsynchronizedTopics
-            .stream()
-            .map(topic -> {
-                sendEventLog(topic, ApplyStatus.created, null, topic.getSpec());
-                return topicService.create(topic);
-            })
-            .toList();
+        List<Topic> importedTopics = topicService.createAll(unsynchronizedTopics);
+        importedTopics.forEach(topic -> sendEventLog(topic, ApplyStatus.created, null, topic.getSpec()));
+        return importedTopics;
     }
 
     /**
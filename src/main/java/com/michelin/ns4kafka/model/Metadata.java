@@ -18,7 +18,7 @@ import lombok.NoArgsConstructor;
  * Object metadata.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @Introspected
 @NoArgsConstructor
 @AllArgsConstructor
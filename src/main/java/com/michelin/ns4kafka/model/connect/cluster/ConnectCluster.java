@@ -48,7 +48,7 @@ public class ConnectCluster extends MetadataResource {
      * Kafka Connect Cluster specification.
      */
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @Introspected
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,59 @@
+package com.michelin.ns4kafka.model.schema;
+
+import static com.michelin.ns4kafka.util.enumation.Kind.SCHEMA_APPLY_RESPONSE;
+
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.MetadataResource;
+import com.michelin.ns4kafka.util.enumation.ApplyStatus;
+import io.micronaut.core.annotation.Introspected;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Schema apply response.
+ */
+@Data
+@Introspected
+@EqualsAndHashCode(callSuper = true)
+public class SchemaApplyResponse extends MetadataResource {
+    @Valid
+    @NotNull
+    private SchemaApplyResponseSpec spec;
+
+    /**
+     * Constructor.
+     *
+     * @param metadata The metadata
+     * @param spec     The spec
+     */
+    @Builder
+    public SchemaApplyResponse(Metadata metadata, SchemaApplyResponseSpec spec) {
+        super("v1", SCHEMA_APPLY_RESPONSE, metadata);
+        this.spec = spec;
+    }
+
+    /**
+     * Schema apply response spec.
+     * The status is empty when the schema could not be applied.
+     */
+    @Getter
+    @Builder
+    @ToString
+    @Introspected
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SchemaApplyResponseSpec {
+        private ApplyStatus status;
+
+        @Builder.Default
+        private List<String> errors = List.of();
+    }
+}
@@ -0,0 +1,21 @@
+package com.michelin.ns4kafka.property;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Executor properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("ns4kafka.executor")
+public class ExecutorProperties {
+    private int poolSize = 4;
+    private Duration initialDelay = Duration.ofSeconds(12);
+    private Duration jitter = Duration.ofSeconds(5);
+    private Duration topicsInterval = Duration.ofSeconds(20);
+    private Duration aclsInterval = Duration.ofSeconds(20);
+    private Duration usersInterval = Duration.ofSeconds(20);
+}
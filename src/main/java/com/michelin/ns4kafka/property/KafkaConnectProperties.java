@@ -0,0 +1,24 @@
+package com.michelin.ns4kafka.property;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Kafka Connect properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("ns4kafka.kafka-connect")
+public class KafkaConnectProperties {
+    private int deploymentConcurrency = 8;
+    private double rateLimit = 20;
+    private int rateLimitBurst = 20;
+    private int retries = 3;
+    private Duration retryBackoff = Duration.ofSeconds(1);
+    private Duration retryMaxBackoff = Duration.ofSeconds(10);
+    private Duration pluginsCacheTtl = Duration.ofMinutes(10);
+    private Duration validationCacheTtl = Duration.ZERO;
+    private int validationCacheMaxSize = 1000;
+}
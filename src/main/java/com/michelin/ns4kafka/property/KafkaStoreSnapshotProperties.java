@@ -0,0 +1,18 @@
+package com.michelin.ns4kafka.property;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Kafka store snapshot properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("ns4kafka.store.kafka.snapshot")
+public class KafkaStoreSnapshotProperties {
+    private boolean enabled;
+    private String directory = "snapshots";
+    private Duration interval = Duration.ofMinutes(5);
+}
@@ -4,6 +4,7 @@ import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Introspected;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Properties;
 import lombok.Getter;
@@ -21,8 +22,13 @@ public class ManagedClusterProperties {
     private boolean manageTopics;
     private boolean manageAcls;
     private boolean dropUnsyncAcls = true;
+    private int aclsDescribePerUserThreshold = 10;
     private boolean manageUsers;
     private boolean manageConnectors;
+    private Duration topicsFullSyncInterval = Duration.ofMinutes(10);
+    private int topicsDescribeChunkSize = 1000;
+    private int topicsDescribeParallelism = 4;
+    private int topicsDescribeRetries = 2;
     private KafkaProvider provider;
     private Properties config;
     private Map<String, ConnectProperties> connects;
@@ -81,6 +87,7 @@ public class ManagedClusterProperties {
         String url;
         String basicAuthUsername;
         String basicAuthPassword;
+        Duration subjectsCacheTtl = Duration.ofSeconds(30);
     }
 
     /**
@@ -2,6 +2,7 @@ package com.michelin.ns4kafka.property;
 
 import com.michelin.ns4kafka.security.auth.local.LocalUser;
 import io.micronaut.context.annotation.ConfigurationProperties;
+import java.time.Duration;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,4 +17,8 @@ public class SecurityProperties {
     private List<LocalUser> localUsers;
     private String adminGroup;
     private String aes256EncryptionKey;
+    private Duration authorizationCacheTtl = Duration.ofSeconds(30);
+    private int authorizationCacheMaxSize = 10000;
+    private Duration gitlabCacheTtl = Duration.ofMinutes(1);
+    private int gitlabCacheMaxSize = 10000;
 }
@@ -2,7 +2,9 @@ package com.michelin.ns4kafka.repository;
 
 import com.michelin.ns4kafka.model.AccessControlEntry;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Access control entry repository.
@@ -12,7 +14,51 @@ public interface AccessControlEntryRepository {
 
     Optional<AccessControlEntry> findByName(String namespace, String name);
 
+    List<AccessControlEntry> findAllForCluster(String cluster);
+
+    List<AccessControlEntry> findAllForNamespace(String namespace);
+
+    List<AccessControlEntry> findAllGrantedTo(String grantedTo);
+
+    /**
+     * Find the namespaces granted the given permission on the given resource, on all clusters.
+     *
+     * @param resourceType The resource type
+     * @param resource     The resource name
+     * @param permission   The permission
+     * @return The set of grantedTo namespaces, including the public grant if any
+     */
+    Set<String> findAllGrantedToWithPermission(AccessControlEntry.ResourceType resourceType, String resource,
+                                               AccessControlEntry.Permission permission);
+
+    /**
+     * Find the namespaces granted the given permission on the given resource of the given cluster.
+     *
+     * @param cluster      The cluster
+     * @param resourceType The resource type
+     * @param resource     The resource name
+     * @param permission   The permission
+     * @return The set of grantedTo namespaces, including the public grant if any
+     */
+    Set<String> findAllGrantedToWithPermission(String cluster, AccessControlEntry.ResourceType resourceType,
+                                               String resource, AccessControlEntry.Permission permission);
+
     AccessControlEntry create(AccessControlEntry accessControlEntry);
 
     void delete(AccessControlEntry accessControlEntry);
+
+    /**
+     * Create the given ACLs in a single batch.
+     *
+     * @param accessControlEntries The ACLs to create
+     * @return The created ACLs
+     */
+    List<AccessControlEntry> createAll(List<AccessControlEntry> accessControlEntries);
+
+    /**
+     * Delete the given ACLs in a single batch.
+     *
+     * @param accessControlEntries The ACLs to delete
+     */
+    void deleteAll(List<AccessControlEntry> accessControlEntries);
 }
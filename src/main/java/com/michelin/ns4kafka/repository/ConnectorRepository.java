@@ -29,4 +29,19 @@ public interface ConnectorRepository {
      * @param connector The connector to delete
      */
     void delete(Connector connector);
+
+    /**
+     * Create the given connectors in a single batch.
+     *
+     * @param connectors The connectors to create
+     * @return The created connectors
+     */
+    List<Connector> createAll(List<Connector> connectors);
+
+    /**
+     * Delete the given connectors in a single batch.
+     *
+     * @param connectors The connectors to delete
+     */
+    void deleteAll(List<Connector> connectors);
 }
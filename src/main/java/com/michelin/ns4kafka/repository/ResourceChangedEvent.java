@@ -0,0 +1,13 @@
+package com.michelin.ns4kafka.repository;
+
+import com.michelin.ns4kafka.model.MetadataResource;
+
+/**
+ * Event published once a change of a resource has been applied to its store, and is visible to its readers.
+ * The listeners are called by the consumer thread of the store, so they must not block.
+ *
+ * @param previous The previous resource, null if it has been created
+ * @param current  The current resource, null if it has been deleted
+ */
+public record ResourceChangedEvent(MetadataResource previous, MetadataResource current) {
+}
@@ -36,4 +36,19 @@ public interface TopicRepository {
      * @param topic The topic to delete
      */
     void delete(Topic topic);
+
+    /**
+     * Create the given topics in a single batch.
+     *
+     * @param topics The topics to create
+     * @return The created topics
+     */
+    List<Topic> createAll(List<Topic> topics);
+
+    /**
+     * Delete the given topics in a single batch.
+     *
+     * @param topics The topics to delete
+     */
+    void deleteAll(List<Topic> topics);
 }
@@ -4,6 +4,10 @@ import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.event.StartupEvent;
 import jakarta.inject.Inject;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -11,26 +15,37 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 public class DelayStartupListener implements ApplicationEventListener<StartupEvent> {
+    private static final long PROGRESS_REPORT_INTERVAL_MS = 5000;
+
     @Inject
     List<KafkaStore<?>> kafkaStores;
 
     /**
      * Wait for KafkaStores to be ready before starting the HTTP listener.
      * This is required to avoid serving requests before KafkaStores are ready.
+     * The stores initialize concurrently, so the startup is as long as the slowest one.
      *
      * @param event the event to respond to
      */
     @Override
     public void onApplicationEvent(StartupEvent event) {
-        while (!kafkaStores.stream().allMatch(KafkaStore::isInitialized)) {
+        CompletableFuture<Void> initialization = CompletableFuture.allOf(kafkaStores.stream()
+            .map(KafkaStore::getInitialization)
+            .toArray(CompletableFuture[]::new));
+
+        while (!initialization.isDone()) {
             try {
-                Thread.sleep(1000);
+                initialization.get(PROGRESS_REPORT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
                 log.info("Waiting for Kafka store to catch up");
+                kafkaStores.forEach(KafkaStore::reportInitProgress);
+            } catch (ExecutionException e) {
+                throw new KafkaStoreException("Kafka store initialization failed", e.getCause());
             } catch (InterruptedException e) {
                 log.error("Exception ", e);
                 Thread.currentThread().interrupt();
+                return;
             }
-            kafkaStores.forEach(KafkaStore::reportInitProgress);
         }
     }
 }
@@ -2,6 +2,7 @@ package com.michelin.ns4kafka.repository.kafka;
 
 import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.repository.AccessControlEntryRepository;
+import com.michelin.ns4kafka.util.ResourcePatternTrie;
 import io.micronaut.configuration.kafka.annotation.KafkaClient;
 import io.micronaut.configuration.kafka.annotation.KafkaListener;
 import io.micronaut.configuration.kafka.annotation.OffsetReset;
@@ -10,8 +11,15 @@ import io.micronaut.configuration.kafka.annotation.Topic;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.Producer;
 
 /**
@@ -21,14 +29,21 @@ import org.apache.kafka.clients.producer.Producer;
 @KafkaListener(
     offsetReset = OffsetReset.EARLIEST,
     groupId = "${ns4kafka.store.kafka.group-id}",
-    offsetStrategy = OffsetStrategy.DISABLED
+    offsetStrategy = OffsetStrategy.DISABLED,
+    batch = true
 )
 public class KafkaAccessControlEntryRepository extends KafkaStore<AccessControlEntry>
     implements AccessControlEntryRepository {
+    private final Map<String, Map<AccessControlEntry.ResourceType, ResourcePatternTrie<AccessControlEntry>>>
+        resourcePatterns = new ConcurrentHashMap<>();
+
     public KafkaAccessControlEntryRepository(
         @Value("${ns4kafka.store.kafka.topics.prefix}.access-control-entries") String kafkaTopic,
         @KafkaClient("access-control-entries-producer") Producer<String, AccessControlEntry> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, accessControlEntry -> accessControlEntry.getMetadata().getCluster());
+        addIndex(NAMESPACE_INDEX, accessControlEntry -> accessControlEntry.getMetadata().getNamespace());
+        addIndex(GRANTED_TO_INDEX, accessControlEntry -> accessControlEntry.getSpec().getGrantedTo());
     }
 
     @Override
@@ -46,19 +61,120 @@ public class KafkaAccessControlEntryRepository extends KafkaStore<AccessControlE
         produce(getMessageKey(accessControlEntry), null);
     }
 
+    /**
+     * Create the given ACLs in a single batch.
+     *
+     * @param accessControlEntries The ACLs to create
+     * @return The created ACLs
+     */
+    @Override
+    public List<AccessControlEntry> createAll(List<AccessControlEntry> accessControlEntries) {
+        Map<String, AccessControlEntry> messages = new LinkedHashMap<>();
+        accessControlEntries.forEach(accessControlEntry ->
+            messages.put(getMessageKey(accessControlEntry), accessControlEntry));
+        produceAll(messages);
+        return messages.keySet()
+            .stream()
+            .map(getKafkaStore()::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * Delete the given ACLs in a single batch.
+     *
+     * @param accessControlEntries The ACLs to delete
+     */
+    @Override
+    public void deleteAll(List<AccessControlEntry> accessControlEntries) {
+        Map<String, AccessControlEntry> tombstones = new LinkedHashMap<>();
+        accessControlEntries.forEach(accessControlEntry -> tombstones.put(getMessageKey(accessControlEntry), null));
+        produceAll(tombstones);
+    }
+
     @Override
     public Optional<AccessControlEntry> findByName(String namespace, String name) {
-        return getKafkaStore().values()
+        return Optional.ofNullable(getKafkaStore().get(namespace + "/" + name));
+    }
+
+    @Override
+    public List<AccessControlEntry> findAllForCluster(String cluster) {
+        return findAllByIndex(CLUSTER_INDEX, cluster);
+    }
+
+    @Override
+    public List<AccessControlEntry> findAllForNamespace(String namespace) {
+        return findAllByIndex(NAMESPACE_INDEX, namespace);
+    }
+
+    @Override
+    public List<AccessControlEntry> findAllGrantedTo(String grantedTo) {
+        return findAllByIndex(GRANTED_TO_INDEX, grantedTo);
+    }
+
+    @Override
+    public Set<String> findAllGrantedToWithPermission(AccessControlEntry.ResourceType resourceType, String resource,
+                                                      AccessControlEntry.Permission permission) {
+        return resourcePatterns.keySet()
+            .stream()
+            .flatMap(cluster -> findAllGrantedToWithPermission(cluster, resourceType, resource, permission).stream())
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> findAllGrantedToWithPermission(String cluster, AccessControlEntry.ResourceType resourceType,
+                                                      String resource, AccessControlEntry.Permission permission) {
+        ResourcePatternTrie<AccessControlEntry> trie = resourcePatterns.getOrDefault(cluster, Map.of())
+            .get(resourceType);
+
+        if (trie == null) {
+            return Set.of();
+        }
+
+        return trie.findAllMatching(resource)
             .stream()
-            .filter(ace -> ace.getMetadata().getNamespace().equals(namespace))
-            .filter(ace -> ace.getMetadata().getName().equals(name))
-            .findFirst();
+            .filter(accessControlEntry -> accessControlEntry.getSpec().getPermission() == permission)
+            .map(accessControlEntry -> accessControlEntry.getSpec().getGrantedTo())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Keep the resource pattern tries in sync with the store.
+     *
+     * @param key      The record key
+     * @param previous The previous ACL, null if the key was absent
+     * @param current  The current ACL, null if the key has been deleted
+     */
+    @Override
+    void onRecordApplied(String key, AccessControlEntry previous, AccessControlEntry current) {
+        if (previous != null) {
+            getResourcePatternTrie(previous).remove(previous.getSpec().getResource(),
+                previous.getSpec().getResourcePatternType(), key);
+        }
+
+        if (current != null) {
+            getResourcePatternTrie(current).put(current.getSpec().getResource(),
+                current.getSpec().getResourcePatternType(), key, current);
+        }
+    }
+
+    /**
+     * Get the resource pattern trie of the cluster and resource type of the given ACL.
+     *
+     * @param accessControlEntry The ACL
+     * @return The resource pattern trie
+     */
+    private ResourcePatternTrie<AccessControlEntry> getResourcePatternTrie(AccessControlEntry accessControlEntry) {
+        return resourcePatterns
+            .computeIfAbsent(accessControlEntry.getMetadata().getCluster(), cluster -> new ConcurrentHashMap<>())
+            .computeIfAbsent(accessControlEntry.getSpec().getResourceType(),
+                resourceType -> new ResourcePatternTrie<>());
     }
 
     @Override
     @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.access-control-entries")
-    void receive(ConsumerRecord<String, AccessControlEntry> message) {
-        super.receive(message);
+    void receive(ConsumerRecords<String, AccessControlEntry> messages) {
+        super.receive(messages);
     }
 
     @Override
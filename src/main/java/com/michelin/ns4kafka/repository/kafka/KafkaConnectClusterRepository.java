@@ -11,7 +11,7 @@ import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.Producer;
 
 /**
@@ -21,13 +21,15 @@ import org.apache.kafka.clients.producer.Producer;
 @KafkaListener(
     offsetReset = OffsetReset.EARLIEST,
     groupId = "${ns4kafka.store.kafka.group-id}",
-    offsetStrategy = OffsetStrategy.DISABLED
+    offsetStrategy = OffsetStrategy.DISABLED,
+    batch = true
 )
 public class KafkaConnectClusterRepository extends KafkaStore<ConnectCluster> implements ConnectClusterRepository {
     public KafkaConnectClusterRepository(
         @Value("${ns4kafka.store.kafka.topics.prefix}.connect-workers") String kafkaTopic,
         @KafkaClient("connect-workers") Producer<String, ConnectCluster> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, connectCluster -> connectCluster.getMetadata().getCluster());
     }
 
     @Override
@@ -37,9 +39,7 @@ public class KafkaConnectClusterRepository extends KafkaStore<ConnectCluster> im
 
     @Override
     public List<ConnectCluster> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-            .filter(connectCluster -> connectCluster.getMetadata().getCluster().equals(cluster))
-            .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
     }
 
     @Override
@@ -54,8 +54,8 @@ public class KafkaConnectClusterRepository extends KafkaStore<ConnectCluster> im
 
     @Override
     @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.connect-workers")
-    void receive(ConsumerRecord<String, ConnectCluster> message) {
-        super.receive(message);
+    void receive(ConsumerRecords<String, ConnectCluster> messages) {
+        super.receive(messages);
     }
 
     @Override
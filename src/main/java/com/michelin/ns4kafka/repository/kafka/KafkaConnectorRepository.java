@@ -9,8 +9,11 @@ import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.configuration.kafka.annotation.Topic;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
+import java.util.LinkedHashMap;
 import java.util.List;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.Producer;
 
 /**
@@ -20,12 +23,14 @@ import org.apache.kafka.clients.producer.Producer;
 @KafkaListener(
     offsetReset = OffsetReset.EARLIEST,
     groupId = "${ns4kafka.store.kafka.group-id}",
-    offsetStrategy = OffsetStrategy.DISABLED
+    offsetStrategy = OffsetStrategy.DISABLED,
+    batch = true
 )
 public class KafkaConnectorRepository extends KafkaStore<Connector> implements ConnectorRepository {
     public KafkaConnectorRepository(@Value("${ns4kafka.store.kafka.topics.prefix}.connectors") String kafkaTopic,
                                     @KafkaClient("connectors-producer") Producer<String, Connector> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, connector -> connector.getMetadata().getCluster());
     }
 
     @Override
@@ -35,8 +40,8 @@ public class KafkaConnectorRepository extends KafkaStore<Connector> implements C
 
     @Override
     @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.connectors")
-    void receive(ConsumerRecord<String, Connector> message) {
-        super.receive(message);
+    void receive(ConsumerRecords<String, Connector> messages) {
+        super.receive(messages);
     }
 
     /**
@@ -60,6 +65,36 @@ public class KafkaConnectorRepository extends KafkaStore<Connector> implements C
         this.produce(getMessageKey(connector), null);
     }
 
+    /**
+     * Create the given connectors in a single batch.
+     *
+     * @param connectors The connectors to create
+     * @return The created connectors
+     */
+    @Override
+    public List<Connector> createAll(List<Connector> connectors) {
+        Map<String, Connector> messages = new LinkedHashMap<>();
+        connectors.forEach(connector -> messages.put(getMessageKey(connector), connector));
+        produceAll(messages);
+        return messages.keySet()
+            .stream()
+            .map(getKafkaStore()::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * Delete the given connectors in a single batch.
+     *
+     * @param connectors The connectors to delete
+     */
+    @Override
+    public void deleteAll(List<Connector> connectors) {
+        Map<String, Connector> tombstones = new LinkedHashMap<>();
+        connectors.forEach(connector -> tombstones.put(getMessageKey(connector), null));
+        produceAll(tombstones);
+    }
+
     /**
      * Find all connectors by cluster.
      *
@@ -68,8 +103,6 @@ public class KafkaConnectorRepository extends KafkaStore<Connector> implements C
      */
     @Override
     public List<Connector> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-            .filter(connector -> connector.getMetadata().getCluster().equals(cluster))
-            .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
     }
 }
@@ -11,7 +11,7 @@ import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.List;
 import java.util.Optional;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.Producer;
 
 /**
@@ -21,13 +21,15 @@ import org.apache.kafka.clients.producer.Producer;
 @KafkaListener(
     offsetReset = OffsetReset.EARLIEST,
     groupId = "${ns4kafka.store.kafka.group-id}",
-    offsetStrategy = OffsetStrategy.DISABLED
+    offsetStrategy = OffsetStrategy.DISABLED,
+    batch = true
 )
 public class KafkaNamespaceRepository extends KafkaStore<Namespace> implements NamespaceRepository {
 
     public KafkaNamespaceRepository(@Value("${ns4kafka.store.kafka.topics.prefix}.namespaces") String kafkaTopic,
                                     @KafkaClient("namespace-producer") Producer<String, Namespace> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, namespace -> namespace.getMetadata().getCluster());
     }
 
     @Override
@@ -47,24 +49,18 @@ public class KafkaNamespaceRepository extends KafkaStore<Namespace> implements N
 
     @Override
     @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.namespaces")
-    void receive(ConsumerRecord<String, Namespace> message) {
-        super.receive(message);
+    void receive(ConsumerRecords<String, Namespace> messages) {
+        super.receive(messages);
     }
 
     @Override
     public List<Namespace> findAllForCluster(String cluster) {
-        return getKafkaStore().values()
-            .stream()
-            .filter(namespace -> namespace.getMetadata().getCluster().equals(cluster))
-            .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
     }
 
     @Override
     public Optional<Namespace> findByName(String namespace) {
-        return getKafkaStore().values()
-            .stream()
-            .filter(ns -> ns.getMetadata().getName().equals(namespace))
-            .findFirst();
+        return Optional.ofNullable(getKafkaStore().get(namespace));
     }
 
 }
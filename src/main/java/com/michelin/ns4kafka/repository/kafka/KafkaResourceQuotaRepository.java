@@ -12,7 +12,7 @@ import jakarta.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.Producer;
 
 /**
@@ -22,7 +22,8 @@ import org.apache.kafka.clients.producer.Producer;
 @KafkaListener(
     offsetReset = OffsetReset.EARLIEST,
     groupId = "${ns4kafka.store.kafka.group-id}",
-    offsetStrategy = OffsetStrategy.DISABLED
+    offsetStrategy = OffsetStrategy.DISABLED,
+    batch = true
 )
 public class KafkaResourceQuotaRepository extends KafkaStore<ResourceQuota> implements ResourceQuotaRepository {
     /**
@@ -60,21 +61,18 @@ public class KafkaResourceQuotaRepository extends KafkaStore<ResourceQuota> impl
      */
     @Override
     public Optional<ResourceQuota> findForNamespace(String namespace) {
-        return getKafkaStore().values()
-            .stream()
-            .filter(resourceQuota -> resourceQuota.getMetadata().getNamespace().equals(namespace))
-            .findFirst();
+        return Optional.ofNullable(getKafkaStore().get(namespace));
     }
 
     /**
      * Consume messages from resource quotas topic.
      *
-     * @param message The resource quota message
+     * @param messages The resource quota messages
      */
     @Override
     @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.resource-quotas")
-    void receive(ConsumerRecord<String, ResourceQuota> message) {
-        super.receive(message);
+    void receive(ConsumerRecords<String, ResourceQuota> messages) {
+        super.receive(messages);
     }
 
     /**
@@ -11,7 +11,7 @@ import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.Collection;
 import java.util.List;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.Producer;
 
 /**
@@ -21,7 +21,8 @@ import org.apache.kafka.clients.producer.Producer;
 @KafkaListener(
     offsetReset = OffsetReset.EARLIEST,
     groupId = "${ns4kafka.store.kafka.group-id}",
-    offsetStrategy = OffsetStrategy.DISABLED
+    offsetStrategy = OffsetStrategy.DISABLED,
+    batch = true
 )
 public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implements RoleBindingRepository {
     /**
@@ -34,6 +35,9 @@ public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implemen
                                       @KafkaClient("role-binding-producer")
                                       Producer<String, RoleBinding> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(NAMESPACE_INDEX, roleBinding -> roleBinding.getMetadata().getNamespace());
+        addIndex(GROUP_INDEX, roleBinding -> roleBinding.getSpec().getSubject().getSubjectType()
+            == RoleBinding.SubjectType.GROUP ? roleBinding.getSpec().getSubject().getSubjectName() : null);
     }
 
     /**
@@ -50,12 +54,12 @@ public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implemen
     /**
      * Consume messages from role bindings topic.
      *
-     * @param message The role binding message
+     * @param messages The role binding messages
      */
     @Override
     @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.role-bindings")
-    void receive(ConsumerRecord<String, RoleBinding> message) {
-        super.receive(message);
+    void receive(ConsumerRecords<String, RoleBinding> messages) {
+        super.receive(messages);
     }
 
     /**
@@ -87,12 +91,10 @@ public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implemen
      */
     @Override
     public List<RoleBinding> findAllForGroups(Collection<String> groups) {
-        return getKafkaStore().values()
+        return groups
             .stream()
-            .filter(roleBinding -> groups
-                .stream()
-                .anyMatch(group -> roleBinding.getSpec().getSubject().getSubjectType() == RoleBinding.SubjectType.GROUP
-                    && roleBinding.getSpec().getSubject().getSubjectName().equals(group)))
+            .distinct()
+            .flatMap(group -> findAllByIndex(GROUP_INDEX, group).stream())
             .toList();
     }
 
@@ -104,9 +106,6 @@ public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implemen
      */
     @Override
     public List<RoleBinding> findAllForNamespace(String namespace) {
-        return getKafkaStore().values()
-            .stream()
-            .filter(roleBinding -> roleBinding.getMetadata().getNamespace().equals(namespace))
-            .toList();
+        return findAllByIndex(NAMESPACE_INDEX, namespace);
     }
 }
@@ -1,6 +1,15 @@
 package com.michelin.ns4kafka.repository.kafka;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.michelin.ns4kafka.model.MetadataResource;
 import com.michelin.ns4kafka.property.KafkaStoreProperties;
+import com.michelin.ns4kafka.property.KafkaStoreSnapshotProperties;
+import com.michelin.ns4kafka.repository.ResourceChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micronaut.configuration.kafka.ConsumerAware;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.Property;
 import io.micronaut.scheduling.TaskExecutors;
@@ -8,28 +17,52 @@ import io.micronaut.scheduling.TaskScheduler;
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 import org.apache.kafka.common.errors.TopicExistsException;
@@ -37,14 +70,28 @@ import org.apache.kafka.common.errors.TopicExistsException;
 /**
  * Kafka store.
  *
- * @param <T> The type of the store
+ * @param <T> The type of the resources of the store
  */
 @Slf4j
-public abstract class KafkaStore<T> {
-    private final Map<String, T> store;
+public abstract class KafkaStore<T extends MetadataResource>
+    implements ConsumerAware<String, T>, ConsumerRebalanceListener {
+    static final String CLUSTER_INDEX = "cluster";
+    static final String NAMESPACE_INDEX = "namespace";
+    static final String GRANTED_TO_INDEX = "granted-to";
+    static final String GROUP_INDEX = "group";
+    private static final int SEGMENT_COUNT = 64;
+    private final List<Map<String, T>> segments = new ArrayList<>(SEGMENT_COUNT);
+    private final List<Map<String, Map<String, Set<String>>>> segmentIndexes = new ArrayList<>(SEGMENT_COUNT);
+    private final BitSet updatedSegments = new BitSet(SEGMENT_COUNT);
+    private volatile KafkaStoreView<T> publishedView = KafkaStoreView.empty(SEGMENT_COUNT);
+    private final Map<String, Function<T, String>> indexedFields = new ConcurrentHashMap<>();
     private final AtomicBoolean initialized = new AtomicBoolean(false);
-    private final ReentrantLock offsetUpdateLock;
-    private final Condition offsetReachedThreshold;
+    private final CompletableFuture<Void> initialization = new CompletableFuture<>();
+    private final ConcurrentNavigableMap<OffsetWaiter, CompletableFuture<Void>> offsetWaiters =
+        new ConcurrentSkipListMap<>();
+    private final AtomicLong offsetWaiterSequence = new AtomicLong();
+    private final List<ResourceChangedEvent> pendingEvents = new ArrayList<>();
+    private final Object applyLock = new Object();
     @Inject
     ApplicationContext applicationContext;
     @Inject
@@ -52,21 +99,35 @@ public abstract class KafkaStore<T> {
     @Inject
     KafkaStoreProperties kafkaStoreProperties;
     @Inject
+    KafkaStoreSnapshotProperties kafkaStoreSnapshotProperties;
+    @Inject
+    ObjectMapper objectMapper;
+    @Inject
+    MeterRegistry meterRegistry;
+    @Inject
     @Named(TaskExecutors.SCHEDULED)
     TaskScheduler taskScheduler;
+    @Inject
+    @Named(TaskExecutors.IO)
+    ExecutorService ioExecutor;
     String kafkaTopic;
     Producer<String, T> kafkaProducer;
-    long offsetInSchemasTopic = -1;
-    long lastWrittenOffset = -1;
+    Consumer<String, T> kafkaConsumer;
+    volatile long offsetInSchemasTopic = -1;
+    volatile long initTargetOffset = -1;
+    long lastSnapshotOffset = -1;
+    long deleteRetentionMs;
+    long initStartTime;
     @Property(name = "ns4kafka.store.kafka.init-timeout")
     int initTimeout;
 
     KafkaStore(String kafkaTopic, Producer<String, T> kafkaProducer) {
         this.kafkaTopic = kafkaTopic;
         this.kafkaProducer = kafkaProducer;
-        this.store = new ConcurrentHashMap<>();
-        this.offsetUpdateLock = new ReentrantLock();
-        this.offsetReachedThreshold = offsetUpdateLock.newCondition();
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments.add(new ConcurrentHashMap<>());
+            segmentIndexes.add(new HashMap<>());
+        }
     }
 
     /**
@@ -77,6 +138,33 @@ public abstract class KafkaStore<T> {
      */
     abstract String getMessageKey(T message);
 
+    /**
+     * Declare a secondary index on the store.
+     * Must be called from the repository constructor, before any record is consumed.
+     *
+     * @param indexName    The index name
+     * @param indexedField The function extracting the indexed value from a record
+     */
+    void addIndex(String indexName, Function<T, String> indexedField) {
+        indexedFields.put(indexName, indexedField);
+    }
+
+    /**
+     * Find all records matching the given value of a secondary index.
+     * The indexes are published with the records, so the matching records are read from the same view.
+     *
+     * @param indexName  The index name
+     * @param indexValue The indexed value
+     * @return The list of matching records
+     */
+    List<T> findAllByIndex(String indexName, String indexValue) {
+        if (!indexedFields.containsKey(indexName)) {
+            throw new KafkaStoreException("Unknown index " + indexName + " on topic " + kafkaTopic + ".");
+        }
+
+        return publishedView.findAllByIndex(indexName, indexValue);
+    }
+
     /**
      * Create or verify the internal topic.
      *
@@ -84,8 +172,142 @@ public abstract class KafkaStore<T> {
      */
     @PostConstruct
     private void createOrVerifyTopic() throws KafkaStoreException {
+        initStartTime = System.nanoTime();
+        meterRegistry.gauge("ns4kafka.store.records", Tags.of("topic", kafkaTopic), segments,
+            liveSegments -> liveSegments.stream().mapToInt(Map::size).sum());
         createOrVerifyInternalTopic();
-        taskScheduler.schedule(Duration.ZERO, this::waitUntilKafkaReaderReachesLastOffsetInit);
+
+        if (kafkaStoreSnapshotProperties.isEnabled()) {
+            loadSnapshot();
+            taskScheduler.scheduleAtFixedRate(kafkaStoreSnapshotProperties.getInterval(),
+                kafkaStoreSnapshotProperties.getInterval(), this::writeSnapshot);
+        }
+
+        // Each store waits on its own thread, so all the stores catch up concurrently
+        ioExecutor.execute(this::waitUntilKafkaReaderReachesLastOffsetInit);
+    }
+
+    /**
+     * Keep the consumer of the internal topic, to seek it after the last applied offset.
+     *
+     * @param consumer The consumer
+     */
+    @Override
+    public void setKafkaConsumer(Consumer<String, T> consumer) {
+        this.kafkaConsumer = consumer;
+    }
+
+    /**
+     * Resume the consumption after the last applied offset, either loaded from a snapshot
+     * or consumed before a rebalance, instead of replaying the topic from the beginning.
+     *
+     * @param partitions The assigned partitions
+     */
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        if (offsetInSchemasTopic >= 0) {
+            log.info("Resuming consumption of topic {} at offset {}.", kafkaTopic, offsetInSchemasTopic + 1);
+            partitions.forEach(partition -> kafkaConsumer.seek(partition, offsetInSchemasTopic + 1));
+        }
+    }
+
+    /**
+     * Nothing to do on revocation, the offsets are never committed.
+     *
+     * @param partitions The revoked partitions
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        // Offsets are tracked by the store itself
+    }
+
+    /**
+     * Load the local snapshot of the store, if any.
+     * The snapshot is ignored when it is missing, corrupt, or older than the delete.retention.ms of the topic,
+     * as tombstones written since it may have been compacted away. The topic is then fully replayed.
+     */
+    private void loadSnapshot() {
+        Path snapshotPath = getSnapshotPath();
+        if (!Files.exists(snapshotPath)) {
+            log.info("No snapshot found for topic {}. Replaying it from the beginning.", kafkaTopic);
+            return;
+        }
+
+        KafkaStoreSnapshot<T> snapshot;
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(snapshotPath))) {
+            snapshot = objectMapper.readValue(inputStream, getSnapshotType());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Snapshot {} is corrupt. Replaying topic {} from the beginning.", snapshotPath, kafkaTopic, e);
+            return;
+        }
+
+        if (snapshot.records() == null || System.currentTimeMillis() - snapshot.timestamp() > deleteRetentionMs) {
+            log.info("Snapshot {} is outdated. Replaying topic {} from the beginning.", snapshotPath, kafkaTopic);
+            return;
+        }
+
+        snapshot.records().forEach(this::apply);
+        publishSnapshot(snapshot.offset());
+        offsetInSchemasTopic = snapshot.offset();
+        lastSnapshotOffset = snapshot.offset();
+        log.info("Loaded {} records of topic {} from snapshot at offset {}.", snapshot.records().size(),
+            kafkaTopic, snapshot.offset());
+    }
+
+    /**
+     * Write the local snapshot of the store, if new records have been applied since the last one.
+     */
+    private void writeSnapshot() {
+        KafkaStoreView<T> view = publishedView;
+        long offset = view.offset();
+        if (!isInitialized() || offset <= lastSnapshotOffset) {
+            return;
+        }
+
+        Path snapshotPath = getSnapshotPath();
+        Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(snapshotPath.getParent());
+            try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(temporaryPath))) {
+                objectMapper.writer()
+                    .without(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(outputStream,
+                        new KafkaStoreSnapshot<>(offset, System.currentTimeMillis(), view));
+            }
+
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+            lastSnapshotOffset = offset;
+            log.debug("Snapshot of topic {} written at offset {}.", kafkaTopic, offset);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write the snapshot of topic {}.", kafkaTopic, e);
+        }
+    }
+
+    /**
+     * Get the path of the local snapshot of the store.
+     *
+     * @return The snapshot path
+     */
+    private Path getSnapshotPath() {
+        return Path.of(kafkaStoreSnapshotProperties.getDirectory()).toAbsolutePath().resolve(kafkaTopic + ".json.gz");
+    }
+
+    /**
+     * Resolve the snapshot type from the type of the store declared by the repository.
+     *
+     * @return The snapshot type
+     */
+    private JavaType getSnapshotType() {
+        for (Class<?> type = getClass(); type != null; type = type.getSuperclass()) {
+            if (type.getGenericSuperclass() instanceof ParameterizedType superclass
+                && superclass.getRawType() == KafkaStore.class) {
+                return objectMapper.getTypeFactory().constructParametricType(KafkaStoreSnapshot.class,
+                    objectMapper.getTypeFactory().constructType(superclass.getActualTypeArguments()[0]));
+            }
+        }
+
+        throw new KafkaStoreException("Cannot resolve the type of the records of topic " + kafkaTopic + ".");
     }
 
     /**
@@ -168,6 +390,8 @@ public abstract class KafkaStore<T> {
                 + " is incorrect. Expected cleanup.policy to be 'compact' but it is " + retentionPolicy);
 
         }
+
+        deleteRetentionMs = Long.parseLong(topicConfigs.get(TopicConfig.DELETE_RETENTION_MS_CONFIG).value());
     }
 
     /**
@@ -217,11 +441,22 @@ public abstract class KafkaStore<T> {
 
     /**
      * Get the current Kafka store.
+     * The returned map is an immutable view of the store, consistent with the offset it has been published at.
+     * It can be read without any lock, and is replaced by the consumer thread after each batch of records.
      *
      * @return The Kafka store
      */
     public Map<String, T> getKafkaStore() {
-        return store;
+        return publishedView;
+    }
+
+    /**
+     * Get the offset the current Kafka store has been published at.
+     *
+     * @return The version of the Kafka store
+     */
+    public long getKafkaStoreVersion() {
+        return publishedView.offset();
     }
 
     /**
@@ -233,21 +468,44 @@ public abstract class KafkaStore<T> {
      * @throws KafkaStoreException Exception thrown during the send process
      */
     T produce(String key, T message) throws KafkaStoreException {
-        if (key == null) {
+        produceAll(Collections.singletonMap(key, message));
+        return getKafkaStore().get(key);
+    }
+
+    /**
+     * Produce a batch of records.
+     * All the records are sent before flushing the producer once, then the local store
+     * is awaited once, up to the highest written offset.
+     *
+     * @param messages The record bodies by record key, null bodies being tombstones
+     * @throws KafkaStoreException Exception thrown during the send process
+     */
+    void produceAll(Map<String, T> messages) throws KafkaStoreException {
+        if (messages.keySet().stream().anyMatch(Objects::isNull)) {
             throw new KafkaStoreException("Key should not be null");
         }
 
-        boolean knownSuccessfulWrite = false;
+        if (messages.isEmpty()) {
+            return;
+        }
+
         try {
-            ProducerRecord<String, T> producerRecord = new ProducerRecord<>(kafkaTopic, key, message);
-            log.trace("Sending record to topic {}", producerRecord);
-            Future<RecordMetadata> ack = kafkaProducer.send(producerRecord);
-            RecordMetadata recordMetadata = ack.get(initTimeout, TimeUnit.MILLISECONDS);
-
-            log.trace("Waiting for the local store to catch up to offset {}", recordMetadata.offset());
-            lastWrittenOffset = recordMetadata.offset();
-            waitUntilOffset(getLatestOffset(), TimeUnit.MILLISECONDS);
-            knownSuccessfulWrite = true;
+            List<Future<RecordMetadata>> acks = new ArrayList<>(messages.size());
+            messages.forEach((key, message) -> {
+                ProducerRecord<String, T> producerRecord = new ProducerRecord<>(kafkaTopic, key, message);
+                log.trace("Sending record to topic {}", producerRecord);
+                acks.add(kafkaProducer.send(producerRecord));
+            });
+            kafkaProducer.flush();
+
+            long highestOffset = -1;
+            for (Future<RecordMetadata> ack : acks) {
+                highestOffset = Math.max(highestOffset, ack.get(initTimeout, TimeUnit.MILLISECONDS).offset());
+            }
+
+            // Each writer only waits for its own records, whatever the concurrent writes are
+            log.trace("Waiting for the local store to catch up to offset {}", highestOffset);
+            waitUntilOffset(highestOffset, TimeUnit.MILLISECONDS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaStoreException("Put operation interrupted while waiting for an ack from Kafka", e);
@@ -257,37 +515,48 @@ public abstract class KafkaStore<T> {
             throw new KafkaStoreException("Put operation timed out while waiting for an ack from Kafka", e);
         } catch (KafkaException e) {
             throw new KafkaStoreException("Put operation to Kafka failed", e);
-        } finally {
-            if (!knownSuccessfulWrite) {
-                this.lastWrittenOffset = -1;
-            }
         }
-        return store.get(key);
     }
 
     /**
-     * Handle a new consumed record
+     * Handle a batch of new consumed records.
+     * The records are applied to the store, then the store is published before the resource changed events
+     * of the batch are published and the waiters of their offsets are completed. The listeners and the writers
+     * always read the applied records.
      * See: /core/src/main/java/io/confluent/kafka/schemaregistry/storage/KafkaStoreReaderThread.java#L326
      *
-     * @param message The record
+     * @param messages The records
      */
-    void receive(ConsumerRecord<String, T> message) {
+    void receive(Iterable<ConsumerRecord<String, T>> messages) {
         try {
-            if (!message.key().equals("NOOP")) {
-                log.trace("Applying update ({},{}) to the local store", message.key(), message.value());
-                if (message.value() == null) {
-                    store.remove(message.key());
-                } else {
-                    store.put(message.key(), message.value());
+            synchronized (applyLock) {
+                long lastOffset = -1;
+                for (ConsumerRecord<String, T> message : messages) {
+                    if (!message.key().equals("NOOP")) {
+                        log.trace("Applying update ({},{}) to the local store", message.key(), message.value());
+                        apply(message.key(), message.value());
+                    }
+
+                    lastOffset = message.offset();
+                }
+
+                if (lastOffset < 0) {
+                    return;
                 }
-            }
 
-            try {
-                offsetUpdateLock.lock();
-                offsetInSchemasTopic = message.offset();
-                offsetReachedThreshold.signalAll();
-            } finally {
-                offsetUpdateLock.unlock();
+                // The applied offset is advanced before looking for waiters, so a writer registering its waiter
+                // concurrently either is found here, or finds the applied offset and publishes the store itself
+                offsetInSchemasTopic = lastOffset;
+
+                // While replaying the topic, the store is only published once the initialization offset is known
+                // and reached, or when a writer waits for one of the applied records
+                if (isInitialized() || (initTargetOffset >= 0 && lastOffset >= initTargetOffset)
+                    || !offsetWaiters.headMap(OffsetWaiter.upTo(lastOffset), true).isEmpty()) {
+                    publishSnapshot(lastOffset);
+                }
+
+                publishPendingEvents();
+                completeOffsetWaiters(publishedView.offset());
             }
         } catch (RuntimeException e) {
             log.error("KafkaStoreReader thread has died for an unknown reason.", e);
@@ -295,40 +564,220 @@ public abstract class KafkaStore<T> {
         }
     }
 
+    /**
+     * Publish the records applied but not published yet, then complete the waiters of their offsets.
+     * Called by the writers waiting for an offset applied while replaying the topic.
+     */
+    private void publishAppliedRecords() {
+        synchronized (applyLock) {
+            if (publishedView.offset() < offsetInSchemasTopic) {
+                publishSnapshot(offsetInSchemasTopic);
+            }
+
+            completeOffsetWaiters(publishedView.offset());
+        }
+    }
+
+    /**
+     * Publish an immutable view of the store.
+     * Only the segments updated since the previous view are copied, the other ones are shared with it.
+     *
+     * @param offset The offset of the last record applied to the store
+     */
+    private void publishSnapshot(long offset) {
+        Map<Integer, KafkaStoreView.Segment<T>> copiedSegments = new HashMap<>();
+        updatedSegments.stream().forEach(segment -> copiedSegments.put(segment,
+            KafkaStoreView.Segment.copyOf(segments.get(segment), segmentIndexes.get(segment))));
+        updatedSegments.clear();
+        publishedView = publishedView.withSegments(offset, copiedSegments);
+    }
+
+    /**
+     * Publish the resource changed events of the records applied since the last published batch.
+     */
+    private void publishPendingEvents() {
+        pendingEvents.forEach(applicationContext::publishEvent);
+        pendingEvents.clear();
+    }
+
+    /**
+     * Apply a record to the store and its lookup structures.
+     * Once the store is initialized, a resource changed event is buffered for each applied record,
+     * to be published with the batch.
+     *
+     * @param key   The record key
+     * @param value The record body, null for a tombstone
+     */
+    private void apply(String key, T value) {
+        int segment = KafkaStoreView.segmentOf(key, SEGMENT_COUNT);
+        T previous = value == null ? segments.get(segment).remove(key) : segments.get(segment).put(key, value);
+        updateIndexes(segmentIndexes.get(segment), key, previous, value);
+        updatedSegments.set(segment);
+        onRecordApplied(key, previous, value);
+
+        if (isInitialized() && (previous != null || value != null)) {
+            pendingEvents.add(new ResourceChangedEvent(previous, value));
+        }
+    }
+
+    /**
+     * Complete the waiters of all the offsets up to the given one.
+     *
+     * @param offset The offset read
+     */
+    private void completeOffsetWaiters(long offset) {
+        ConcurrentNavigableMap<OffsetWaiter, CompletableFuture<Void>> reachedWaiters =
+            offsetWaiters.headMap(OffsetWaiter.upTo(offset), true);
+        while (!reachedWaiters.isEmpty()) {
+            Map.Entry<OffsetWaiter, CompletableFuture<Void>> waiter = reachedWaiters.pollFirstEntry();
+            if (waiter != null) {
+                waiter.getValue().complete(null);
+            }
+        }
+    }
+
+    /**
+     * Hook called by the consumer thread once a record has been applied to the store.
+     * Repositories maintaining their own lookup structures override it.
+     *
+     * @param key      The record key
+     * @param previous The previous value, null if the key was absent
+     * @param current  The current value, null if the key has been deleted
+     */
+    void onRecordApplied(String key, T previous, T current) {
+        // Nothing to maintain by default
+    }
+
+    /**
+     * Move the given key from the index entries of its previous value to the ones of its current value.
+     *
+     * @param indexes  The live indexes of the segment of the key
+     * @param key      The record key
+     * @param previous The previous value, null if the key was absent
+     * @param current  The current value, null if the key has been deleted
+     */
+    private void updateIndexes(Map<String, Map<String, Set<String>>> indexes, String key, T previous, T current) {
+        indexedFields.forEach((indexName, indexedField) -> {
+            Map<String, Set<String>> index = indexes.computeIfAbsent(indexName, name -> new HashMap<>());
+
+            if (previous != null && indexedField.apply(previous) != null) {
+                index.computeIfPresent(indexedField.apply(previous), (value, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                });
+            }
+
+            if (current != null && indexedField.apply(current) != null) {
+                index.computeIfAbsent(indexedField.apply(current), value -> new HashSet<>())
+                    .add(key);
+            }
+        });
+    }
+
     /**
      * Wait until the Kafka reader reaches the last offset.
-     * Mark the store as initialized when it is done.
+     * Mark the store as initialized when it is done, and complete the initialization future.
      */
     public void waitUntilKafkaReaderReachesLastOffsetInit() {
         try {
-            waitUntilOffset(getLatestOffset(), TimeUnit.MILLISECONDS);
+            long latestOffset = getLatestOffset();
+            initTargetOffset = latestOffset;
+            if (latestOffset >= 0) {
+                try {
+                    waitUntilOffset(latestOffset, TimeUnit.MILLISECONDS);
+                } catch (KafkaStoreException e) {
+                    log.warn("Offset {} of topic {} not reached. Falling back to a NOOP record.", latestOffset,
+                        kafkaTopic, e);
+                    initTargetOffset = getLatestOffsetFromNoopRecord();
+                    waitUntilOffset(initTargetOffset, TimeUnit.MILLISECONDS);
+                }
+            }
+
             boolean isInitialized = initialized.compareAndSet(false, true);
             if (!isInitialized) {
                 throw new KafkaStoreException("Illegal state while initializing store. Store was already initialized");
             }
+
+            Duration initDuration = Duration.ofNanos(System.nanoTime() - initStartTime);
+            meterRegistry.timer("ns4kafka.store.init.duration", Tags.of("topic", kafkaTopic)).record(initDuration);
+            log.info("{} initialized in {} ms ({} records).", kafkaTopic, initDuration.toMillis(), size());
+            initialization.complete(null);
         } catch (Exception e) {
             log.error("Unrecoverable error during initialization", e);
+            initialization.completeExceptionally(e);
         }
     }
 
+    /**
+     * Get the initialization of the store.
+     *
+     * @return A future completed once the store has caught up with its topic, or failed to
+     */
+    public CompletableFuture<Void> getInitialization() {
+        return initialization;
+    }
+
     /**
      * Get latest offset.
+     * Read the end offset of the topic partition rather than writing a NOOP record to it,
+     * unless the offsets cannot be listed.
      *
-     * @return The latest offset
+     * @return The latest offset, -1 if the topic is empty
      * @throws KafkaStoreException Exception while getting the latest offset
      */
     private long getLatestOffset() throws KafkaStoreException {
-        if (lastWrittenOffset >= 0) {
-            return lastWrittenOffset;
+        try {
+            TopicPartition partition = new TopicPartition(kafkaTopic, 0);
+            long beginningOffset = listOffset(partition, OffsetSpec.earliest());
+            long endOffset = listOffset(partition, OffsetSpec.latest());
+            log.trace("Offsets of topic {} range from {} to {}.", kafkaTopic, beginningOffset, endOffset);
+
+            if (endOffset <= beginningOffset) {
+                return -1;
+            }
+
+            return endOffset - 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaStoreException(
+                "Thread interrupted while waiting for the latest offset of topic " + kafkaTopic + ".", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Cannot list the offsets of topic {}. Falling back to a NOOP record.", kafkaTopic, e);
+            return getLatestOffsetFromNoopRecord();
         }
+    }
+
+    /**
+     * List the offset of the given partition.
+     *
+     * @param partition  The partition
+     * @param offsetSpec The offset to list
+     * @return The offset
+     * @throws InterruptedException Exception thrown while listing the offset
+     * @throws ExecutionException   Exception thrown while listing the offset
+     * @throws TimeoutException     Exception thrown while listing the offset
+     */
+    private long listOffset(TopicPartition partition, OffsetSpec offsetSpec)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        return adminClient.listOffsets(Collections.singletonMap(partition, offsetSpec))
+            .partitionResult(partition)
+            .get(initTimeout, TimeUnit.MILLISECONDS)
+            .offset();
+    }
 
+    /**
+     * Get latest offset by writing a NOOP record to the topic.
+     *
+     * @return The latest offset
+     * @throws KafkaStoreException Exception while getting the latest offset
+     */
+    private long getLatestOffsetFromNoopRecord() throws KafkaStoreException {
         try {
             log.trace("Sending NOOP record to topic {} to find last offset.", kafkaTopic);
             Future<RecordMetadata> ack = kafkaProducer.send(new ProducerRecord<>(kafkaTopic, "NOOP", null));
             RecordMetadata metadata = ack.get(initTimeout, TimeUnit.MILLISECONDS);
-            this.lastWrittenOffset = metadata.offset();
-            log.trace("NOOP record's offset is {}", lastWrittenOffset);
-            return lastWrittenOffset;
+            log.trace("NOOP record's offset is {}", metadata.offset());
+            return metadata.offset();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaStoreException(
@@ -345,7 +794,7 @@ public abstract class KafkaStore<T> {
     }
 
     /**
-     * Wait until the given offset is read.
+     * Wait until the given offset is read and published in the store.
      *
      * @param offset   The offset
      * @param timeUnit The time unit to wait
@@ -358,30 +807,44 @@ public abstract class KafkaStore<T> {
 
         log.trace("Waiting to read offset {}. Currently at offset {}.", offset, offsetInSchemasTopic);
 
-        try {
-            offsetUpdateLock.lock();
-            long timeoutNs = TimeUnit.NANOSECONDS.convert(initTimeout, timeUnit);
-            while ((offsetInSchemasTopic < offset) && (timeoutNs > 0)) {
-                try {
-                    timeoutNs = offsetReachedThreshold.awaitNanos(timeoutNs);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.debug("Interrupted while waiting for the background store reader thread "
-                            + "to reach the specified offset: {}",
-                        offset, e);
-                }
-            }
-        } finally {
-            offsetUpdateLock.unlock();
+        if (publishedView.offset() >= offset) {
+            return;
+        }
+
+        // Each call registers its own waiter, so a caller giving up never removes the waiter of another one
+        OffsetWaiter waiterKey = new OffsetWaiter(offset, offsetWaiterSequence.incrementAndGet());
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        offsetWaiters.put(waiterKey, waiter);
+
+        // The reader may have applied the offset before the waiter was registered, without publishing it
+        if (offsetInSchemasTopic >= offset) {
+            publishAppliedRecords();
         }
 
-        if (offsetInSchemasTopic < offset) {
+        try {
+            waiter.get(initTimeout, timeUnit);
+        } catch (InterruptedException e) {
+            offsetWaiters.remove(waiterKey);
+            Thread.currentThread().interrupt();
+            throw new KafkaStoreException("Interrupted while waiting for the background store reader thread "
+                + "to reach the offset " + offset + ".", e);
+        } catch (ExecutionException | TimeoutException e) {
+            offsetWaiters.remove(waiterKey);
             throw new KafkaStoreException("Failed to reach target offset within the timeout interval. targetOffset: "
                 + offset + ", offsetReached: " + offsetInSchemasTopic + ", timeout(ms): "
                 + TimeUnit.MILLISECONDS.convert(initTimeout, timeUnit));
         }
     }
 
+    /**
+     * Get the number of records applied to the store.
+     *
+     * @return The number of records
+     */
+    private int size() {
+        return segments.stream().mapToInt(Map::size).sum();
+    }
+
     /**
      * Is the store initialized.
      *
@@ -396,9 +859,33 @@ public abstract class KafkaStore<T> {
      */
     public void reportInitProgress() {
         if (isInitialized()) {
-            log.info("{} is ready! ({} records)", kafkaTopic, store.size());
+            log.info("{} is ready! ({} records)", kafkaTopic, size());
         } else {
-            log.info("Init in progress for {}... ({}/{})", kafkaTopic, offsetInSchemasTopic, lastWrittenOffset);
+            log.info("Init in progress for {}... ({}/{})", kafkaTopic, offsetInSchemasTopic, initTargetOffset);
+        }
+    }
+
+    /**
+     * Waiter of an offset, unique per waiting call.
+     *
+     * @param offset   The awaited offset
+     * @param sequence The sequence number of the call, ordering the waiters of a same offset
+     */
+    private record OffsetWaiter(long offset, long sequence) implements Comparable<OffsetWaiter> {
+        /**
+         * Build the upper bound of the waiters of all the offsets up to the given one.
+         *
+         * @param offset The offset
+         * @return The upper bound
+         */
+        static OffsetWaiter upTo(long offset) {
+            return new OffsetWaiter(offset, Long.MAX_VALUE);
+        }
+
+        @Override
+        public int compareTo(OffsetWaiter other) {
+            int comparison = Long.compare(offset, other.offset);
+            return comparison != 0 ? comparison : Long.compare(sequence, other.sequence);
         }
     }
 }
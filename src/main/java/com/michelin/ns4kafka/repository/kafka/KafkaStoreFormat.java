@@ -0,0 +1,9 @@
+package com.michelin.ns4kafka.repository.kafka;
+
+/**
+ * Kafka store record format.
+ */
+public enum KafkaStoreFormat {
+    JSON,
+    SMILE
+}
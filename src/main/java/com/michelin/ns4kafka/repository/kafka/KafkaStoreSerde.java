@@ -0,0 +1,87 @@
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka store record serde.
+ * Writes the records in the configured format, and reads both the JSON and Smile formats,
+ * so a store topic can be migrated from one format to the other without being rewritten.
+ *
+ * @param <T> The type of the store
+ */
+public class KafkaStoreSerde<T> implements Serde<T>, Serializer<T>, Deserializer<T> {
+    private final ObjectWriter writer;
+    private final ObjectReader jsonReader;
+    private final ObjectReader smileReader;
+
+    /**
+     * Constructor.
+     *
+     * @param objectMapper The JSON object mapper, whose configuration is shared by both formats
+     * @param type         The type of the records
+     * @param format       The format to write the records in
+     */
+    public KafkaStoreSerde(ObjectMapper objectMapper, Class<T> type, KafkaStoreFormat format) {
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.writer = (format == KafkaStoreFormat.SMILE ? smileMapper : objectMapper)
+            .writerFor(type)
+            .without(SerializationFeature.INDENT_OUTPUT);
+        this.jsonReader = objectMapper.readerFor(type);
+        this.smileReader = smileMapper.readerFor(type);
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            return writer.writeValueAsBytes(data);
+        } catch (IOException e) {
+            throw new SerializationException("Error serializing record of topic " + topic, e);
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            return isSmile(data) ? smileReader.readValue(data) : jsonReader.readValue(data);
+        } catch (IOException e) {
+            throw new SerializationException("Error deserializing record of topic " + topic, e);
+        }
+    }
+
+    @Override
+    public Serializer<T> serializer() {
+        return this;
+    }
+
+    @Override
+    public Deserializer<T> deserializer() {
+        return this;
+    }
+
+    /**
+     * Check if the record starts with the Smile header.
+     *
+     * @param data The record
+     * @return true if it does, false otherwise
+     */
+    private static boolean isSmile(byte[] data) {
+        return data.length >= 3 && data[0] == ':' && data[1] == ')' && data[2] == '\n';
+    }
+}
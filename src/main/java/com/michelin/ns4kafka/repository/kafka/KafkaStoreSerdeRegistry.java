@@ -0,0 +1,52 @@
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.KafkaStream;
+import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.model.RoleBinding;
+import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.model.connect.cluster.ConnectCluster;
+import com.michelin.ns4kafka.model.connector.Connector;
+import com.michelin.ns4kafka.model.quota.ResourceQuota;
+import io.micronaut.configuration.kafka.serde.SerdeRegistry;
+import io.micronaut.context.annotation.Property;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.kafka.common.serialization.Serde;
+
+/**
+ * Kafka store serde registry.
+ * Provides the serde of the records of the store topics, ahead of the default JSON serde.
+ */
+@Singleton
+public class KafkaStoreSerdeRegistry implements SerdeRegistry {
+    private static final Set<Class<?>> STORE_TYPES = Set.of(AccessControlEntry.class, ConnectCluster.class,
+        Connector.class, KafkaStream.class, Namespace.class, ResourceQuota.class, RoleBinding.class, Topic.class);
+
+    private final Map<Class<?>, Serde<?>> serdes = new ConcurrentHashMap<>();
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Property(name = "ns4kafka.store.kafka.format", defaultValue = "JSON")
+    KafkaStoreFormat format;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Serde<T> getSerde(Class<T> type) {
+        if (!STORE_TYPES.contains(type)) {
+            return null;
+        }
+
+        return (Serde<T>) serdes.computeIfAbsent(type, key -> new KafkaStoreSerde<>(objectMapper, type, format));
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,14 @@
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.util.Map;
+
+/**
+ * Snapshot of a Kafka store, written locally and loaded at startup.
+ *
+ * @param offset    The last offset applied to the records, used as version of the snapshot
+ * @param timestamp The time the snapshot has been taken at
+ * @param records   The records by key
+ * @param <T>       The type of the store
+ */
+record KafkaStoreSnapshot<T>(long offset, long timestamp, Map<String, T> records) {
+}
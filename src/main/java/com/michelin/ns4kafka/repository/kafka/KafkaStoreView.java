@@ -0,0 +1,160 @@
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable view of a Kafka store, published to the readers.
+ * The records and their secondary indexes are split into segments by key hash. A new view shares the segments
+ * left unchanged with the previous one, so publishing a batch only copies the segments the batch updated.
+ *
+ * @param <T> The type of the store
+ */
+final class KafkaStoreView<T> extends AbstractMap<String, T> {
+    private final long offset;
+    private final List<Segment<T>> segments;
+    private final int size;
+
+    /**
+     * Constructor.
+     *
+     * @param offset   The last offset applied to the records, used as version of the view
+     * @param segments The segments
+     */
+    private KafkaStoreView(long offset, List<Segment<T>> segments) {
+        this.offset = offset;
+        this.segments = segments;
+        this.size = segments.stream().mapToInt(segment -> segment.records().size()).sum();
+    }
+
+    /**
+     * Build an empty view.
+     *
+     * @param segmentCount The number of segments
+     * @param <T>          The type of the store
+     * @return The empty view
+     */
+    static <T> KafkaStoreView<T> empty(int segmentCount) {
+        return new KafkaStoreView<>(-1, Collections.nCopies(segmentCount, new Segment<>(Map.of(), Map.of())));
+    }
+
+    /**
+     * Get the segment of a key.
+     *
+     * @param key          The record key
+     * @param segmentCount The number of segments
+     * @return The index of the segment
+     */
+    static int segmentOf(String key, int segmentCount) {
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), segmentCount);
+    }
+
+    /**
+     * Build the next view, replacing the given segments.
+     *
+     * @param offset          The last offset applied to the records
+     * @param updatedSegments The updated segments by index
+     * @return The next view
+     */
+    KafkaStoreView<T> withSegments(long offset, Map<Integer, Segment<T>> updatedSegments) {
+        List<Segment<T>> nextSegments = new ArrayList<>(segments);
+        updatedSegments.forEach(nextSegments::set);
+        return new KafkaStoreView<>(offset, Collections.unmodifiableList(nextSegments));
+    }
+
+    /**
+     * Get the last offset applied to the records.
+     *
+     * @return The offset
+     */
+    long offset() {
+        return offset;
+    }
+
+    /**
+     * Find all records matching the given value of a secondary index.
+     *
+     * @param indexName  The index name
+     * @param indexValue The indexed value
+     * @return The list of matching records
+     */
+    List<T> findAllByIndex(String indexName, String indexValue) {
+        List<T> records = new ArrayList<>();
+        for (Segment<T> segment : segments) {
+            Set<String> keys = segment.indexes().getOrDefault(indexName, Map.of()).getOrDefault(indexValue, Set.of());
+            keys.forEach(key -> records.add(segment.records().get(key)));
+        }
+
+        return Collections.unmodifiableList(records);
+    }
+
+    @Override
+    public T get(Object key) {
+        return key instanceof String recordKey
+            ? segments.get(segmentOf(recordKey, segments.size())).records().get(recordKey) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String recordKey
+            && segments.get(segmentOf(recordKey, segments.size())).records().containsKey(recordKey);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, T>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, T>> iterator() {
+                return segments.stream()
+                    .flatMap(segment -> segment.records().entrySet().stream())
+                    .iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Immutable segment of a view.
+     *
+     * @param records The records of the segment by key
+     * @param indexes The keys of the records of the segment, by indexed value, by index name
+     * @param <T>     The type of the store
+     */
+    record Segment<T>(Map<String, T> records, Map<String, Map<String, Set<String>>> indexes) {
+        /**
+         * Copy the live records and indexes of a segment.
+         *
+         * @param records The live records
+         * @param indexes The live indexes
+         * @param <T>     The type of the store
+         * @return The immutable segment
+         */
+        static <T> Segment<T> copyOf(Map<String, T> records, Map<String, Map<String, Set<String>>> indexes) {
+            Map<String, Map<String, Set<String>>> indexesCopy = new HashMap<>();
+            indexes.forEach((indexName, index) -> {
+                Map<String, Set<String>> indexCopy = new HashMap<>();
+                index.forEach((indexValue, keys) -> indexCopy.put(indexValue, Set.copyOf(keys)));
+                indexesCopy.put(indexName, Collections.unmodifiableMap(indexCopy));
+            });
+
+            return new Segment<>(Map.copyOf(records), Collections.unmodifiableMap(indexesCopy));
+        }
+    }
+}
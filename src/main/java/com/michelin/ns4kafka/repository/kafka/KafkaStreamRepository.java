@@ -10,7 +10,7 @@ import io.micronaut.configuration.kafka.annotation.Topic;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.List;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.Producer;
 
 /**
@@ -20,13 +20,15 @@ import org.apache.kafka.clients.producer.Producer;
 @KafkaListener(
     offsetReset = OffsetReset.EARLIEST,
     groupId = "${ns4kafka.store.kafka.group-id}",
-    offsetStrategy = OffsetStrategy.DISABLED
+    offsetStrategy = OffsetStrategy.DISABLED,
+    batch = true
 )
 public class KafkaStreamRepository extends KafkaStore<KafkaStream> implements StreamRepository {
 
     public KafkaStreamRepository(@Value("${ns4kafka.store.kafka.topics.prefix}.streams") String kafkaTopic,
                                  @KafkaClient("streams-producer") Producer<String, KafkaStream> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, stream -> stream.getMetadata().getCluster());
     }
 
     @Override
@@ -36,10 +38,7 @@ public class KafkaStreamRepository extends KafkaStore<KafkaStream> implements St
 
     @Override
     public List<KafkaStream> findAllForCluster(String cluster) {
-        return getKafkaStore().values()
-            .stream()
-            .filter(stream -> stream.getMetadata().getCluster().equals(cluster))
-            .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
     }
 
     @Override
@@ -49,8 +48,8 @@ public class KafkaStreamRepository extends KafkaStore<KafkaStream> implements St
 
     @Override
     @Topic(value = "${ns4kafka.store.kafka.topics.prefix}.streams")
-    void receive(ConsumerRecord<String, KafkaStream> message) {
-        super.receive(message);
+    void receive(ConsumerRecords<String, KafkaStream> messages) {
+        super.receive(messages);
     }
 
     @Override
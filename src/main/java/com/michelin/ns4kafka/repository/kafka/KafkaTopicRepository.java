@@ -9,8 +9,11 @@ import io.micronaut.configuration.kafka.annotation.OffsetStrategy;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.Producer;
 
 /**
@@ -20,13 +23,15 @@ import org.apache.kafka.clients.producer.Producer;
 @KafkaListener(
     offsetReset = OffsetReset.EARLIEST,
     groupId = "${ns4kafka.store.kafka.group-id}",
-    offsetStrategy = OffsetStrategy.DISABLED
+    offsetStrategy = OffsetStrategy.DISABLED,
+    batch = true
 )
 public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepository {
 
     public KafkaTopicRepository(@Value("${ns4kafka.store.kafka.topics.prefix}.topics") String kafkaTopic,
                                 @KafkaClient("topics-producer") Producer<String, Topic> kafkaProducer) {
         super(kafkaTopic, kafkaProducer);
+        addIndex(CLUSTER_INDEX, topic -> topic.getMetadata().getCluster());
     }
 
     @Override
@@ -55,10 +60,40 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
         this.produce(getMessageKey(topic), null);
     }
 
+    /**
+     * Create the given topics in a single batch.
+     *
+     * @param topics The topics to create
+     * @return The created topics
+     */
+    @Override
+    public List<Topic> createAll(List<Topic> topics) {
+        Map<String, Topic> messages = new LinkedHashMap<>();
+        topics.forEach(topic -> messages.put(getMessageKey(topic), topic));
+        produceAll(messages);
+        return messages.keySet()
+            .stream()
+            .map(getKafkaStore()::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * Delete the given topics in a single batch.
+     *
+     * @param topics The topics to delete
+     */
+    @Override
+    public void deleteAll(List<Topic> topics) {
+        Map<String, Topic> tombstones = new LinkedHashMap<>();
+        topics.forEach(topic -> tombstones.put(getMessageKey(topic), null));
+        produceAll(tombstones);
+    }
+
     @Override
     @io.micronaut.configuration.kafka.annotation.Topic(value = "${ns4kafka.store.kafka.topics.prefix}.topics")
-    void receive(ConsumerRecord<String, Topic> message) {
-        super.receive(message);
+    void receive(ConsumerRecords<String, Topic> messages) {
+        super.receive(messages);
     }
 
     /**
@@ -79,9 +114,6 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
      */
     @Override
     public List<Topic> findAllForCluster(String cluster) {
-        return getKafkaStore().values()
-            .stream()
-            .filter(topic -> topic.getMetadata().getCluster().equals(cluster))
-            .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
     }
 }
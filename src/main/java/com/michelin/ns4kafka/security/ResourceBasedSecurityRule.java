@@ -1,27 +1,37 @@
 package com.michelin.ns4kafka.security;
 
 import static com.michelin.ns4kafka.security.auth.JwtCustomClaimNames.ROLE_BINDINGS;
+import static com.nimbusds.jwt.JWTClaimNames.ISSUED_AT;
+import static com.nimbusds.jwt.JWTClaimNames.JWT_ID;
 
+import com.michelin.ns4kafka.model.MetadataResource;
+import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.RoleBinding;
 import com.michelin.ns4kafka.property.SecurityProperties;
 import com.michelin.ns4kafka.repository.NamespaceRepository;
+import com.michelin.ns4kafka.repository.ResourceChangedEvent;
 import com.michelin.ns4kafka.repository.RoleBindingRepository;
 import com.michelin.ns4kafka.security.auth.AuthenticationInfo;
-import com.michelin.ns4kafka.security.auth.AuthenticationRoleBinding;
+import com.michelin.ns4kafka.security.auth.AuthorizationIndex;
+import com.michelin.ns4kafka.util.ExpiringCache;
 import com.michelin.ns4kafka.util.exception.ForbiddenNamespaceException;
 import com.michelin.ns4kafka.util.exception.UnknownNamespaceException;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.runtime.event.annotation.EventListener;
 import io.micronaut.security.authentication.Authentication;
 import io.micronaut.security.rules.SecurityRule;
 import io.micronaut.security.rules.SecurityRuleResult;
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
@@ -50,6 +60,23 @@ public class ResourceBasedSecurityRule implements SecurityRule<HttpRequest<?>> {
     @Inject
     NamespaceRepository namespaceRepository;
 
+    private final Map<String, Long> namespaceVersions = new ConcurrentHashMap<>();
+
+    private ExpiringCache<DecisionKey, VersionedDecision> decisionCache;
+
+    private ExpiringCache<TokenIdentity, AuthorizationIndex> authorizationIndexes;
+
+    /**
+     * Init the caches of the authorization decisions and of the authorization indexes of the tokens.
+     */
+    @PostConstruct
+    void initDecisionCache() {
+        decisionCache = new ExpiringCache<>(securityProperties.getAuthorizationCacheTtl(),
+            securityProperties.getAuthorizationCacheMaxSize());
+        authorizationIndexes = new ExpiringCache<>(securityProperties.getAuthorizationCacheTtl(),
+            securityProperties.getAuthorizationCacheMaxSize());
+    }
+
     @Override
     public Publisher<SecurityRuleResult> check(@Nullable HttpRequest<?> request,
                                                @Nullable Authentication authentication) {
@@ -91,55 +118,98 @@ public class ResourceBasedSecurityRule implements SecurityRule<HttpRequest<?>> {
             resourceType = matcher.group("resourceType");
         }
 
+        TokenIdentity token = TokenIdentity.of(authentication);
+        DecisionKey key = new DecisionKey(token, namespace, resourceType, request.getMethodName());
+
+        // A decision made while the namespace changes is cached with the version read before it, so it is ignored
+        long namespaceVersion = namespaceVersions.getOrDefault(namespace, 0L);
+        Decision decision = decisionCache.get(key)
+            .filter(cached -> cached.namespaceVersion() == namespaceVersion)
+            .map(VersionedDecision::decision)
+            .orElse(null);
+        if (decision == null) {
+            decision = decide(request, authentication, token, namespace, resourceType);
+            decisionCache.put(key, new VersionedDecision(decision, namespaceVersion));
+        }
+
+        return switch (decision) {
+            case ALLOWED -> SecurityRuleResult.ALLOWED;
+            case UNKNOWN -> SecurityRuleResult.UNKNOWN;
+            case UNKNOWN_NAMESPACE -> throw new UnknownNamespaceException(namespace);
+            case FORBIDDEN_NAMESPACE -> throw new ForbiddenNamespaceException(namespace);
+        };
+    }
+
+    /**
+     * Decide if a user can access a namespaced resource.
+     *
+     * @param request        The current request
+     * @param authentication The claims from the token
+     * @param token          The identity of the token
+     * @param namespace      The namespace
+     * @param resourceType   The resource type
+     * @return The decision
+     */
+    private Decision decide(HttpRequest<?> request, Authentication authentication, TokenIdentity token,
+                            String namespace, String resourceType) {
         // Namespace doesn't exist
         String sub = authentication.getName();
         if (namespaceRepository.findByName(namespace).isEmpty()) {
             log.debug("Namespace not found for user \"{}\" on path \"{}\"", sub, request.getPath());
-            throw new UnknownNamespaceException(namespace);
+            return Decision.UNKNOWN_NAMESPACE;
         }
 
         // Admin are allowed everything (provided that the namespace exists)
         Collection<String> roles = authentication.getRoles();
         if (roles.contains(IS_ADMIN)) {
             log.debug("Authorized admin \"{}\" on path \"{}\"", sub, request.getPath());
-            return SecurityRuleResult.ALLOWED;
+            return Decision.ALLOWED;
         }
 
-        AuthenticationInfo authenticationInfo = AuthenticationInfo.of(authentication);
+        // The index of a token is compiled once and shared by all its decisions
+        AuthorizationIndex authorizationIndex = authorizationIndexes.get(token).orElse(null);
+        if (authorizationIndex == null) {
+            authorizationIndex = AuthenticationInfo.of(authentication).getAuthorizationIndex();
+            authorizationIndexes.put(token, authorizationIndex);
+        }
 
         // No role binding for the target namespace. User is targeting a namespace that he is not allowed to access
-        List<AuthenticationRoleBinding> namespaceRoleBindings = authenticationInfo.getRoleBindings()
-            .stream()
-            .filter(roleBinding -> roleBinding.getNamespace().equals(namespace))
-            .toList();
-
-        if (namespaceRoleBindings.isEmpty()) {
+        if (!authorizationIndex.hasNamespace(namespace)) {
             log.debug("No matching role binding for user \"{}\" and namespace \"{}\" on path \"{}\"", sub,
                 namespace, request.getPath());
-            throw new ForbiddenNamespaceException(namespace);
+            return Decision.FORBIDDEN_NAMESPACE;
         }
 
-        List<AuthenticationRoleBinding> authorizedRoleBindings = namespaceRoleBindings
-            .stream()
-            .filter(roleBinding -> roleBinding.getResourceTypes().contains(resourceType))
-            .filter(roleBinding -> roleBinding.getVerbs().contains(RoleBinding.Verb.valueOf(request.getMethodName())))
-            .toList();
-
         // User not authorized to access requested resource
-        if (authorizedRoleBindings.isEmpty()) {
+        if (!authorizationIndex.isAllowed(namespace, resourceType, RoleBinding.Verb.valueOf(request.getMethodName()))) {
             log.debug("No matching role binding for user \"{}\", namespace \"{}\", resource type \"{}\" "
                     + "and HTTP verb \"{}\" on path \"{}\"",
                 sub, namespace, resourceType, request.getMethodName(), request.getPath());
-            return SecurityRuleResult.UNKNOWN;
+            return Decision.UNKNOWN;
         }
 
-        if (log.isDebugEnabled()) {
-            authorizedRoleBindings.forEach(
-                roleBinding -> log.debug("Found matching role binding \"{}\"", roleBinding.toString()));
-            log.debug("Authorized user \"{}\" on path \"{}\"", sub, request.getPath());
+        log.debug("Authorized user \"{}\" on path \"{}\"", sub, request.getPath());
+        return Decision.ALLOWED;
+    }
+
+    /**
+     * Invalidate the cached decisions of a namespace when the namespace changes.
+     * The decisions only depend on the claims of the token and on the existence of the namespace.
+     * The event is published once the change is visible in the store, and the version of the namespace is bumped
+     * before its decisions are invalidated, so no decision made on the previous state can be cached after it.
+     *
+     * @param event The resource changed event
+     */
+    @EventListener
+    public void onResourceChanged(ResourceChangedEvent event) {
+        MetadataResource resource = event.current() != null ? event.current() : event.previous();
+        if (!(resource instanceof Namespace)) {
+            return;
         }
 
-        return SecurityRuleResult.ALLOWED;
+        String namespace = resource.getMetadata().getName();
+        namespaceVersions.merge(namespace, 1L, Long::sum);
+        decisionCache.invalidateIf(key -> key.namespace().equals(namespace));
     }
 
     @Override
@@ -162,4 +232,61 @@ public class ResourceBasedSecurityRule implements SecurityRule<HttpRequest<?>> {
 
         return roles;
     }
+
+    /**
+     * Authorization decision.
+     */
+    private enum Decision {
+        ALLOWED,
+        UNKNOWN,
+        UNKNOWN_NAMESPACE,
+        FORBIDDEN_NAMESPACE
+    }
+
+    /**
+     * Cached authorization decision.
+     *
+     * @param decision         The decision
+     * @param namespaceVersion The version of the namespace read before the decision has been made
+     */
+    private record VersionedDecision(Decision decision, long namespaceVersion) {
+    }
+
+    /**
+     * Identity of a token.
+     * A token carrying an ID or an issue time is identified by them and its subject, so its claims are not hashed
+     * on each request: a new token with other role bindings has another ID and issue time.
+     * Otherwise, the token is identified by its roles and role bindings.
+     *
+     * @param subject      The subject of the token
+     * @param tokenId      The ID of the token
+     * @param issuedAt     The issue time of the token
+     * @param roles        The roles of the token, if it has neither ID nor issue time
+     * @param roleBindings The role bindings of the token, if it has neither ID nor issue time
+     */
+    private record TokenIdentity(String subject, Object tokenId, Object issuedAt, Collection<String> roles,
+                                 Object roleBindings) {
+        private static TokenIdentity of(Authentication authentication) {
+            Map<String, Object> attributes = authentication.getAttributes();
+            Object tokenId = attributes.get(JWT_ID);
+            Object issuedAt = attributes.get(ISSUED_AT);
+            if (tokenId != null || issuedAt != null) {
+                return new TokenIdentity(authentication.getName(), tokenId, issuedAt, null, null);
+            }
+
+            return new TokenIdentity(authentication.getName(), null, null, authentication.getRoles(),
+                attributes.get(ROLE_BINDINGS));
+        }
+    }
+
+    /**
+     * Key of a cached authorization decision.
+     *
+     * @param token        The identity of the token
+     * @param namespace    The namespace
+     * @param resourceType The resource type
+     * @param method       The HTTP method
+     */
+    private record DecisionKey(TokenIdentity token, String namespace, String resourceType, String method) {
+    }
 }
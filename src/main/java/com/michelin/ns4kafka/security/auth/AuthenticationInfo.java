@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micronaut.security.authentication.Authentication;
 import java.util.Collection;
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -23,6 +24,9 @@ public class AuthenticationInfo {
     private Collection<String> roles;
     private Collection<AuthenticationRoleBinding> roleBindings;
 
+    @Getter(AccessLevel.NONE)
+    private AuthorizationIndex authorizationIndex;
+
     /**
      * Create an AuthenticationInfo from an Authentication.
      *
@@ -49,4 +53,18 @@ public class AuthenticationInfo {
             .roleBindings(typedRoleBindings)
             .build();
     }
+
+    /**
+     * Get the authorization index of the role bindings.
+     * It is compiled on the first call.
+     *
+     * @return the authorization index
+     */
+    public AuthorizationIndex getAuthorizationIndex() {
+        if (authorizationIndex == null) {
+            authorizationIndex = AuthorizationIndex.of(roleBindings);
+        }
+
+        return authorizationIndex;
+    }
 }
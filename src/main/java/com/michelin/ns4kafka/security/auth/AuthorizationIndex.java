@@ -0,0 +1,70 @@
+package com.michelin.ns4kafka.security.auth;
+
+import com.michelin.ns4kafka.model.RoleBinding;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Authorization index.
+ * Compiled form of the role bindings of a user, checking an access with a couple of lookups and a bit test.
+ * Each resource type gets a bit, and each namespace gets a set of resource type bits per verb.
+ */
+public class AuthorizationIndex {
+    private static final int VERBS = RoleBinding.Verb.values().length;
+
+    private final Map<String, Integer> resourceTypeBits = new HashMap<>();
+    private final Map<String, BitSet[]> namespaces = new HashMap<>();
+
+    /**
+     * Compile the given role bindings.
+     *
+     * @param roleBindings The role bindings
+     * @return The authorization index
+     */
+    public static AuthorizationIndex of(Collection<AuthenticationRoleBinding> roleBindings) {
+        AuthorizationIndex index = new AuthorizationIndex();
+        roleBindings.forEach(roleBinding -> {
+            BitSet[] verbs = index.namespaces.computeIfAbsent(roleBinding.getNamespace(), namespace -> {
+                BitSet[] resourceTypes = new BitSet[VERBS];
+                for (int i = 0; i < VERBS; i++) {
+                    resourceTypes[i] = new BitSet();
+                }
+                return resourceTypes;
+            });
+
+            roleBinding.getResourceTypes().forEach(resourceType -> {
+                int bit = index.resourceTypeBits.computeIfAbsent(resourceType,
+                    type -> index.resourceTypeBits.size());
+                roleBinding.getVerbs().forEach(verb -> verbs[verb.ordinal()].set(bit));
+            });
+        });
+
+        return index;
+    }
+
+    /**
+     * Check if a role binding targets the given namespace.
+     *
+     * @param namespace The namespace
+     * @return true if it does, false otherwise
+     */
+    public boolean hasNamespace(String namespace) {
+        return namespaces.containsKey(namespace);
+    }
+
+    /**
+     * Check if a role binding allows the given verb on the given resource type of the given namespace.
+     *
+     * @param namespace    The namespace
+     * @param resourceType The resource type
+     * @param verb         The verb
+     * @return true if it is allowed, false otherwise
+     */
+    public boolean isAllowed(String namespace, String resourceType, RoleBinding.Verb verb) {
+        BitSet[] verbs = namespaces.get(namespace);
+        Integer bit = resourceTypeBits.get(resourceType);
+        return verbs != null && bit != null && verbs[verb.ordinal()].get(bit);
+    }
+}
@@ -1,9 +1,16 @@
 package com.michelin.ns4kafka.security.auth.gitlab;
 
+import com.michelin.ns4kafka.property.SecurityProperties;
+import com.michelin.ns4kafka.util.ExpiringCache;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpResponse;
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -16,9 +23,30 @@ import reactor.core.publisher.Mono;
 @Slf4j
 @Singleton
 public class GitlabAuthenticationService {
+    private static final String TOTAL_PAGES_HEADER = "X-Total-Pages";
+    private static final String NEXT_PAGE_HEADER = "X-Next-Page";
+    private static final int PAGES_CONCURRENCY = 4;
+
     @Inject
     GitlabApiClient gitlabApiClient;
 
+    @Inject
+    SecurityProperties securityProperties;
+
+    private ExpiringCache<String, String> usernames;
+    private ExpiringCache<String, List<String>> groups;
+
+    /**
+     * Init the caches of the usernames and groups, keyed by token hash.
+     */
+    @PostConstruct
+    void initCaches() {
+        usernames = new ExpiringCache<>(securityProperties.getGitlabCacheTtl(),
+            securityProperties.getGitlabCacheMaxSize());
+        groups = new ExpiringCache<>(securityProperties.getGitlabCacheTtl(),
+            securityProperties.getGitlabCacheMaxSize());
+    }
+
     /**
      * Get all GitLab user groups.
      *
@@ -26,10 +54,16 @@ public class GitlabAuthenticationService {
      * @return The user groups
      */
     public Flux<String> findAllGroups(String token) {
-        return getPageAndNext(token, 1)
-            .flatMap(response -> Flux.fromStream(response.body()
-                .stream()
-                .map(stringObjectMap -> stringObjectMap.get("full_path").toString())));
+        String tokenHash = hash(token);
+        return groups.get(tokenHash)
+            .map(Mono::just)
+            .orElseGet(() -> getAllPages(token)
+                .flatMap(response -> Flux.fromStream(response.body()
+                    .stream()
+                    .map(stringObjectMap -> stringObjectMap.get("full_path").toString())))
+                .collectList()
+                .doOnNext(userGroups -> groups.put(tokenHash, userGroups)))
+            .flatMapMany(Flux::fromIterable);
     }
 
     /**
@@ -39,29 +73,73 @@ public class GitlabAuthenticationService {
      * @return The username
      */
     public Mono<String> findUsername(String token) {
-        return gitlabApiClient.findUser(token)
-            .map(stringObjectMap -> stringObjectMap.get("email").toString());
+        String tokenHash = hash(token);
+        return usernames.get(tokenHash)
+            .map(Mono::just)
+            .orElseGet(() -> gitlabApiClient.findUser(token)
+                .map(stringObjectMap -> stringObjectMap.get("email").toString())
+                .doOnNext(username -> usernames.put(tokenHash, username)));
     }
 
     /**
      * Fetch all pages of GitLab user groups.
+     * When the first page gives the total number of pages, the next pages are fetched concurrently.
+     * Otherwise, they are fetched one after the other.
      *
      * @param token The user token
-     * @param page  The current page to fetch
-     * @return The user groups information
+     * @return The user groups information, in page order
      */
-    private Flux<HttpResponse<List<Map<String, Object>>>> getPageAndNext(String token, int page) {
-        return gitlabApiClient.getGroupsPage(token, page)
+    private Flux<HttpResponse<List<Map<String, Object>>>> getAllPages(String token) {
+        return gitlabApiClient.getGroupsPage(token, 1)
             .concatMap(response -> {
-                log.debug("Call GitLab groups page {}/{}.", page, response.header("X-Total-Pages"));
-
-                if (StringUtils.isEmpty(response.header("X-Next-Page"))) {
-                    return Flux.just(response);
-                } else {
-                    int nextPage = Integer.parseInt(response.header("X-Next-Page"));
-                    return Flux.just(response)
-                        .concatWith(getPageAndNext(token, nextPage));
+                String totalPages = response.header(TOTAL_PAGES_HEADER);
+                if (StringUtils.isEmpty(totalPages) || StringUtils.isEmpty(response.header(NEXT_PAGE_HEADER))) {
+                    return getPageAndNext(token, 1, response);
                 }
+
+                log.debug("Call GitLab groups pages 2 to {}.", totalPages);
+
+                return Flux.just(response)
+                    .concatWith(Flux.range(2, Integer.parseInt(totalPages) - 1)
+                        .flatMapSequential(page -> gitlabApiClient.getGroupsPage(token, page), PAGES_CONCURRENCY));
             });
     }
+
+    /**
+     * Fetch the next pages of GitLab user groups, one after the other.
+     *
+     * @param token    The user token
+     * @param page     The current page
+     * @param response The response of the current page
+     * @return The user groups information
+     */
+    private Flux<HttpResponse<List<Map<String, Object>>>> getPageAndNext(String token, int page,
+                                                                         HttpResponse<List<Map<String, Object>>>
+                                                                             response) {
+        log.debug("Call GitLab groups page {}/{}.", page, response.header(TOTAL_PAGES_HEADER));
+
+        if (StringUtils.isEmpty(response.header(NEXT_PAGE_HEADER))) {
+            return Flux.just(response);
+        }
+
+        int nextPage = Integer.parseInt(response.header(NEXT_PAGE_HEADER));
+        return Flux.just(response)
+            .concatWith(gitlabApiClient.getGroupsPage(token, nextPage)
+                .concatMap(nextResponse -> getPageAndNext(token, nextPage, nextResponse)));
+    }
+
+    /**
+     * Hash a token, so the tokens are not kept in memory.
+     *
+     * @param token The token
+     * @return The SHA-256 hash of the token
+     */
+    private static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
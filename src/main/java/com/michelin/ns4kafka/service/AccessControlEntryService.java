@@ -19,7 +19,9 @@ import jakarta.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Access control entry service.
@@ -254,11 +256,9 @@ public class AccessControlEntryService {
      * @return A list of ACLs
      */
     public List<AccessControlEntry> findAllGrantedToNamespace(Namespace namespace) {
-        return accessControlEntryRepository.findAll()
-            .stream()
-            .filter(accessControlEntry ->
-                accessControlEntry.getSpec().getGrantedTo().equals(namespace.getMetadata().getName())
-                    || accessControlEntry.getSpec().getGrantedTo().equals(PUBLIC_GRANTED_TO))
+        return Stream.concat(
+                accessControlEntryRepository.findAllGrantedTo(namespace.getMetadata().getName()).stream(),
+                accessControlEntryRepository.findAllGrantedTo(PUBLIC_GRANTED_TO).stream())
             .toList();
     }
 
@@ -268,10 +268,7 @@ public class AccessControlEntryService {
      * @return A list of ACLs
      */
     public List<AccessControlEntry> findAllPublicGrantedTo() {
-        return accessControlEntryRepository.findAll()
-            .stream()
-            .filter(accessControlEntry -> accessControlEntry.getSpec().getGrantedTo().equals(PUBLIC_GRANTED_TO))
-            .toList();
+        return accessControlEntryRepository.findAllGrantedTo(PUBLIC_GRANTED_TO);
     }
 
     /**
@@ -281,10 +278,7 @@ public class AccessControlEntryService {
      * @return A list of ACLs
      */
     public List<AccessControlEntry> findAllForNamespace(Namespace namespace) {
-        return accessControlEntryRepository.findAll().stream()
-            .filter(accessControlEntry -> accessControlEntry.getMetadata().getNamespace()
-                .equals(namespace.getMetadata().getName()))
-            .toList();
+        return accessControlEntryRepository.findAllForNamespace(namespace.getMetadata().getName());
     }
 
     /**
@@ -294,9 +288,7 @@ public class AccessControlEntryService {
      * @return A list of ACLs
      */
     public List<AccessControlEntry> findAllForCluster(String cluster) {
-        return accessControlEntryRepository.findAll().stream()
-            .filter(accessControlEntry -> accessControlEntry.getMetadata().getCluster().equals(cluster))
-            .toList();
+        return accessControlEntryRepository.findAllForCluster(cluster);
     }
 
     /**
@@ -318,16 +310,19 @@ public class AccessControlEntryService {
      */
     public boolean isNamespaceOwnerOfResource(String namespace, AccessControlEntry.ResourceType resourceType,
                                               String resource) {
-        return accessControlEntryRepository.findAll()
-            .stream()
-            .filter(accessControlEntry -> accessControlEntry.getSpec().getGrantedTo().equals(namespace))
-            .filter(accessControlEntry -> accessControlEntry.getSpec().getPermission()
-                == AccessControlEntry.Permission.OWNER)
-            .filter(accessControlEntry -> accessControlEntry.getSpec().getResourceType() == resourceType)
-            .anyMatch(accessControlEntry -> switch (accessControlEntry.getSpec().getResourcePatternType()) {
-                case PREFIXED -> resource.startsWith(accessControlEntry.getSpec().getResource());
-                case LITERAL -> resource.equals(accessControlEntry.getSpec().getResource());
-            });
+        return findAllOwnersOfResource(resourceType, resource).contains(namespace);
+    }
+
+    /**
+     * Find the namespaces owning the given resource, on any cluster.
+     *
+     * @param resourceType The resource type to filter
+     * @param resource     The resource name
+     * @return The owner namespaces
+     */
+    public Set<String> findAllOwnersOfResource(AccessControlEntry.ResourceType resourceType, String resource) {
+        return accessControlEntryRepository
+            .findAllGrantedToWithPermission(resourceType, resource, AccessControlEntry.Permission.OWNER);
     }
 
     /**
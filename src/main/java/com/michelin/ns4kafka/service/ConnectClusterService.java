@@ -100,7 +100,12 @@ public class ConnectClusterService {
                 .toList());
         }
 
+        // The status is set on copies, not to alter the Connect clusters of the store
         return Flux.fromIterable(results)
+            .map(connectCluster -> ConnectCluster.builder()
+                .metadata(connectCluster.getMetadata())
+                .spec(connectCluster.getSpec().toBuilder().build())
+                .build())
             .flatMap(connectCluster -> kafkaConnectClient.version(connectCluster.getMetadata().getCluster(),
                     connectCluster.getMetadata().getName())
                 .doOnError(error -> {
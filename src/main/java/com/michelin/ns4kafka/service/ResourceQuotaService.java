@@ -6,6 +6,7 @@ import static com.michelin.ns4kafka.model.quota.ResourceQuota.ResourceQuotaSpecK
 import static com.michelin.ns4kafka.model.quota.ResourceQuota.ResourceQuotaSpecKey.DISK_TOPICS;
 import static com.michelin.ns4kafka.model.quota.ResourceQuota.ResourceQuotaSpecKey.USER_CONSUMER_BYTE_RATE;
 import static com.michelin.ns4kafka.model.quota.ResourceQuota.ResourceQuotaSpecKey.USER_PRODUCER_BYTE_RATE;
+import static com.michelin.ns4kafka.service.AccessControlEntryService.PUBLIC_GRANTED_TO;
 import static com.michelin.ns4kafka.util.BytesUtils.BYTE;
 import static com.michelin.ns4kafka.util.BytesUtils.GIBIBYTE;
 import static com.michelin.ns4kafka.util.BytesUtils.KIBIBYTE;
@@ -17,20 +18,31 @@ import static com.michelin.ns4kafka.util.FormatErrorUtils.invalidQuotaOperation;
 import static com.michelin.ns4kafka.util.FormatErrorUtils.invalidQuotaOperationCannotAdd;
 import static org.apache.kafka.common.config.TopicConfig.RETENTION_BYTES_CONFIG;
 
+import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.MetadataResource;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.model.connector.Connector;
 import com.michelin.ns4kafka.model.quota.ResourceQuota;
 import com.michelin.ns4kafka.model.quota.ResourceQuotaResponse;
+import com.michelin.ns4kafka.repository.ResourceChangedEvent;
 import com.michelin.ns4kafka.repository.ResourceQuotaRepository;
 import com.michelin.ns4kafka.service.executor.UserAsyncExecutor;
 import com.michelin.ns4kafka.util.BytesUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.runtime.event.annotation.EventListener;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToLongFunction;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -53,6 +65,12 @@ public class ResourceQuotaService {
     @Inject
     ConnectorService connectorService;
 
+    @Inject
+    AccessControlEntryService accessControlEntryService;
+
+    private final Map<String, NamespaceUsage> usages = new HashMap<>();
+    private long usagesVersion;
+
     /**
      * Find a resource quota by namespace.
      *
@@ -177,7 +195,7 @@ public class ResourceQuotaService {
      * @return The number of topics
      */
     public long getCurrentCountTopicsByNamespace(Namespace namespace) {
-        return topicService.findAllForNamespace(namespace).size();
+        return getUsage(namespace, usage -> usage.countTopics);
     }
 
     /**
@@ -187,11 +205,7 @@ public class ResourceQuotaService {
      * @return The number of partitions
      */
     public long getCurrentCountPartitionsByNamespace(Namespace namespace) {
-        return topicService.findAllForNamespace(namespace)
-            .stream()
-            .map(topic -> topic.getSpec().getPartitions())
-            .reduce(0, Integer::sum)
-            .longValue();
+        return getUsage(namespace, usage -> usage.countPartitions);
     }
 
     /**
@@ -201,11 +215,7 @@ public class ResourceQuotaService {
      * @return The number of topic disk
      */
     public long getCurrentDiskTopicsByNamespace(Namespace namespace) {
-        return topicService.findAllForNamespace(namespace)
-            .stream()
-            .map(topic -> Long.parseLong(topic.getSpec().getConfigs().getOrDefault("retention.bytes", "0"))
-                * topic.getSpec().getPartitions())
-            .reduce(0L, Long::sum);
+        return getUsage(namespace, usage -> usage.diskTopics);
     }
 
     /**
@@ -215,7 +225,139 @@ public class ResourceQuotaService {
      * @return The number of connectors
      */
     public long getCurrentCountConnectorsByNamespace(Namespace namespace) {
-        return connectorService.findAllForNamespace(namespace).size();
+        return getUsage(namespace, usage -> usage.countConnectors);
+    }
+
+    /**
+     * Read the usage of a namespace.
+     * The usage is counted from the stores on the first read, then kept up to date as the resources change.
+     * The stores are read outside the lock. A count overlapping a resource change is not kept, as it may have missed
+     * the change, so the next read counts again.
+     *
+     * @param namespace The namespace
+     * @param counter   The counter to read
+     * @return The counter value
+     */
+    private long getUsage(Namespace namespace, ToLongFunction<NamespaceUsage> counter) {
+        long version;
+        synchronized (usages) {
+            NamespaceUsage usage = usages.get(namespace.getMetadata().getName());
+            if (usage != null && Objects.equals(usage.cluster, namespace.getMetadata().getCluster())) {
+                return counter.applyAsLong(usage);
+            }
+
+            version = usagesVersion;
+        }
+
+        NamespaceUsage usage = new NamespaceUsage(namespace.getMetadata().getCluster(),
+            topicService.findAllForNamespace(namespace), connectorService.findAllForNamespace(namespace));
+
+        synchronized (usages) {
+            if (version == usagesVersion) {
+                usages.put(namespace.getMetadata().getName(), usage);
+            }
+
+            return counter.applyAsLong(usage);
+        }
+    }
+
+    /**
+     * Keep the usages up to date when a resource changes.
+     * The topics and connectors are moved in or out of the usages of their owners, found the same way as when
+     * counting the usages.
+     * The usages depending on a changed owner ACL or namespace are dropped, and counted again on the next read.
+     *
+     * @param event The resource changed event
+     */
+    @EventListener
+    public void onResourceChanged(ResourceChangedEvent event) {
+        MetadataResource resource = event.current() != null ? event.current() : event.previous();
+        if (!(resource instanceof Topic || resource instanceof Connector || resource instanceof AccessControlEntry
+            || resource instanceof Namespace)) {
+            return;
+        }
+
+        synchronized (usages) {
+            usagesVersion++;
+            if (usages.isEmpty()) {
+                return;
+            }
+
+            if (resource instanceof AccessControlEntry) {
+                invalidateUsage(event.previous());
+                invalidateUsage(event.current());
+                return;
+            }
+
+            if (resource instanceof Namespace namespace) {
+                usages.remove(namespace.getMetadata().getName());
+                return;
+            }
+        }
+
+        String name = resource.getMetadata().getName();
+        if (resource instanceof Topic topic) {
+            Set<String> owners = accessControlEntryService
+                .findAllOwnersOfResource(AccessControlEntry.ResourceType.TOPIC, name);
+
+            synchronized (usages) {
+                findAllUsages(topic.getMetadata().getCluster(), owners).forEach(usage -> {
+                    if (event.current() != null) {
+                        usage.putTopic(topic);
+                    } else {
+                        usage.removeTopic(name);
+                    }
+                });
+            }
+        } else {
+            // The connectors of the public owner ACLs are counted for every namespace
+            Set<String> owners = accessControlEntryService
+                .findAllOwnersOfResource(AccessControlEntry.ResourceType.CONNECT, name);
+
+            synchronized (usages) {
+                Set<String> namespaces = owners.contains(PUBLIC_GRANTED_TO) ? usages.keySet() : owners;
+                findAllUsages(resource.getMetadata().getCluster(), namespaces).forEach(usage -> {
+                    if (event.current() != null) {
+                        usage.putConnector(name);
+                    } else {
+                        usage.removeConnector(name);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Find the counted usages of the given namespaces on the given cluster.
+     *
+     * @param cluster    The cluster
+     * @param namespaces The namespaces
+     * @return The usages
+     */
+    private List<NamespaceUsage> findAllUsages(String cluster, Set<String> namespaces) {
+        return namespaces
+            .stream()
+            .map(usages::get)
+            .filter(usage -> usage != null && Objects.equals(usage.cluster, cluster))
+            .toList();
+    }
+
+    /**
+     * Drop the usages depending on the given ACL, if it is an owner ACL of topics or connectors.
+     *
+     * @param resource The ACL
+     */
+    private void invalidateUsage(MetadataResource resource) {
+        if (resource instanceof AccessControlEntry accessControlEntry
+            && accessControlEntry.getSpec().getPermission() == AccessControlEntry.Permission.OWNER
+            && (accessControlEntry.getSpec().getResourceType() == AccessControlEntry.ResourceType.TOPIC
+            || accessControlEntry.getSpec().getResourceType() == AccessControlEntry.ResourceType.CONNECT)) {
+            if (PUBLIC_GRANTED_TO.equals(accessControlEntry.getSpec().getGrantedTo())) {
+                usages.clear();
+            } else {
+                usages.remove(accessControlEntry.getSpec().getGrantedTo());
+            }
+        }
     }
 
     /**
@@ -400,4 +542,77 @@ public class ResourceQuotaService {
                 .build())
             .build();
     }
+
+    /**
+     * Resources of a namespace counted against its quota.
+     * The topics and connectors are tracked by name, so applying the same change twice counts it once.
+     */
+    private static class NamespaceUsage {
+        private final String cluster;
+        private final Map<String, Topic> topics = new HashMap<>();
+        private final Set<String> connectors = new HashSet<>();
+        private long countTopics;
+        private long countPartitions;
+        private long diskTopics;
+        private long countConnectors;
+
+        private NamespaceUsage(String cluster, List<Topic> topics, List<Connector> connectors) {
+            this.cluster = cluster;
+            topics.forEach(topic -> {
+                this.topics.put(topic.getMetadata().getName(), topic);
+                countPartitions += getPartitions(topic);
+                diskTopics += getDisk(topic);
+            });
+            connectors.forEach(connector -> this.connectors.add(connector.getMetadata().getName()));
+            countTopics = topics.size();
+            countConnectors = connectors.size();
+        }
+
+        private void putTopic(Topic topic) {
+            Topic previous = topics.put(topic.getMetadata().getName(), topic);
+            if (previous == null) {
+                countTopics++;
+            } else {
+                countPartitions -= getPartitions(previous);
+                diskTopics -= getDisk(previous);
+            }
+
+            countPartitions += getPartitions(topic);
+            diskTopics += getDisk(topic);
+        }
+
+        private void removeTopic(String name) {
+            Topic previous = topics.remove(name);
+            if (previous != null) {
+                countTopics--;
+                countPartitions -= getPartitions(previous);
+                diskTopics -= getDisk(previous);
+            }
+        }
+
+        private void putConnector(String name) {
+            if (connectors.add(name)) {
+                countConnectors++;
+            }
+        }
+
+        private void removeConnector(String name) {
+            if (connectors.remove(name)) {
+                countConnectors--;
+            }
+        }
+
+        private static long getPartitions(Topic topic) {
+            return topic.getSpec() != null ? topic.getSpec().getPartitions() : 0;
+        }
+
+        private static long getDisk(Topic topic) {
+            if (topic.getSpec() == null || topic.getSpec().getConfigs() == null) {
+                return 0;
+            }
+
+            return Long.parseLong(topic.getSpec().getConfigs().getOrDefault(RETENTION_BYTES_CONFIG, "0"))
+                * topic.getSpec().getPartitions();
+        }
+    }
 }
@@ -14,6 +14,7 @@ import com.michelin.ns4kafka.service.client.schema.entities.SchemaCompatibilityR
 import com.michelin.ns4kafka.service.client.schema.entities.SchemaCompatibilityResponse;
 import com.michelin.ns4kafka.service.client.schema.entities.SchemaRequest;
 import com.michelin.ns4kafka.service.client.schema.entities.SchemaResponse;
+import com.michelin.ns4kafka.util.ResourcePatternTrie;
 import io.confluent.kafka.schemaregistry.avro.AvroSchema;
 import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
 import io.micronaut.core.util.CollectionUtils;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -52,17 +54,13 @@ public class SchemaService {
             .filter(acl -> acl.getSpec().getPermission() == AccessControlEntry.Permission.OWNER)
             .filter(acl -> acl.getSpec().getResourceType() == AccessControlEntry.ResourceType.TOPIC).toList();
 
+        ResourcePatternTrie<String> ownedTopics = new ResourcePatternTrie<>();
+        acls.forEach(acl -> ownedTopics.put(acl.getSpec().getResource(), acl.getSpec().getResourcePatternType(),
+            acl.getSpec().getResource(), acl.getSpec().getResource()));
+
         return schemaRegistryClient
             .getSubjects(namespace.getMetadata().getCluster())
-            .filter(subject -> {
-                String underlyingTopicName = subject.replaceAll("(-key|-value)$", "");
-
-                return acls.stream()
-                    .anyMatch(accessControlEntry -> switch (accessControlEntry.getSpec().getResourcePatternType()) {
-                        case PREFIXED -> underlyingTopicName.startsWith(accessControlEntry.getSpec().getResource());
-                        case LITERAL -> underlyingTopicName.equals(accessControlEntry.getSpec().getResource());
-                    });
-            })
+            .filter(subject -> ownedTopics.anyMatching(subject.replaceAll("(-key|-value)$", "")))
             .map(subject -> SchemaList.builder()
                 .metadata(Metadata.builder()
                     .cluster(namespace.getMetadata().getCluster())
@@ -155,6 +153,19 @@ public class SchemaService {
      * @return A list of errors
      */
     public Mono<List<String>> validateSchema(Namespace namespace, Schema schema) {
+        return validateSchema(namespace, schema, Set.of());
+    }
+
+    /**
+     * Validate a schema when it is created or updated, along with the referenced subjects already validated.
+     * The references to these subjects are not looked up in the Schema Registry, as they may not be registered yet.
+     *
+     * @param namespace         The namespace
+     * @param schema            The schema to validate
+     * @param validatedSubjects The referenced subjects already validated
+     * @return A list of errors
+     */
+    public Mono<List<String>> validateSchema(Namespace namespace, Schema schema, Set<String> validatedSubjects) {
         return Mono.defer(() -> {
             List<String> validationErrors = new ArrayList<>();
 
@@ -166,7 +177,7 @@ public class SchemaService {
             }
 
             if (!CollectionUtils.isEmpty(schema.getSpec().getReferences())) {
-                return validateReferences(namespace, schema)
+                return validateReferences(namespace, schema, validatedSubjects)
                     .map(referenceErrors -> {
                         validationErrors.addAll(referenceErrors);
                         return validationErrors;
@@ -180,12 +191,14 @@ public class SchemaService {
     /**
      * Validate the references of a schema.
      *
-     * @param ns     The namespace
-     * @param schema The schema to validate
+     * @param ns                The namespace
+     * @param schema            The schema to validate
+     * @param validatedSubjects The referenced subjects already validated
      * @return A list of errors
      */
-    private Mono<List<String>> validateReferences(Namespace ns, Schema schema) {
+    private Mono<List<String>> validateReferences(Namespace ns, Schema schema, Set<String> validatedSubjects) {
         return Flux.fromIterable(schema.getSpec().getReferences())
+            .filter(reference -> !validatedSubjects.contains(reference.getSubject()))
             .flatMap(reference -> getSubject(ns, reference.getSubject(), String.valueOf(reference.getVersion()))
                 .map(Optional::of)
                 .defaultIfEmpty(Optional.empty())
@@ -63,24 +63,9 @@ public class TopicService {
      * @return A list of topics
      */
     public List<Topic> findAllForNamespace(Namespace namespace) {
-        List<AccessControlEntry> acls = accessControlEntryService.findAllGrantedToNamespace(namespace);
         return topicRepository.findAllForCluster(namespace.getMetadata().getCluster())
             .stream()
-            .filter(topic -> acls.stream().anyMatch(accessControlEntry -> {
-                //need to check accessControlEntry.Permission, we want OWNER
-                if (accessControlEntry.getSpec().getPermission() != AccessControlEntry.Permission.OWNER) {
-                    return false;
-                }
-                if (accessControlEntry.getSpec().getResourceType() == AccessControlEntry.ResourceType.TOPIC) {
-                    return switch (accessControlEntry.getSpec().getResourcePatternType()) {
-                        case PREFIXED ->
-                            topic.getMetadata().getName().startsWith(accessControlEntry.getSpec().getResource());
-                        case LITERAL ->
-                            topic.getMetadata().getName().equals(accessControlEntry.getSpec().getResource());
-                    };
-                }
-                return false;
-            }))
+            .filter(topic -> isNamespaceOwnerOfTopic(namespace.getMetadata().getName(), topic.getMetadata().getName()))
             .toList();
     }
 
@@ -120,6 +105,16 @@ public class TopicService {
         return topicRepository.create(topic);
     }
 
+    /**
+     * Create the given topics in a single batch.
+     *
+     * @param topics The topics to create
+     * @return The created topics
+     */
+    public List<Topic> createAll(List<Topic> topics) {
+        return topicRepository.createAll(topics);
+    }
+
     /**
      * Delete a given topic.
      *
@@ -1,6 +1,7 @@
 package com.michelin.ns4kafka.service.client.connect;
 
 import com.michelin.ns4kafka.model.connect.cluster.ConnectCluster;
+import com.michelin.ns4kafka.property.KafkaConnectProperties;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.property.SecurityProperties;
 import com.michelin.ns4kafka.repository.ConnectClusterRepository;
@@ -12,23 +13,40 @@ import com.michelin.ns4kafka.service.client.connect.entities.ConnectorStateInfo;
 import com.michelin.ns4kafka.service.client.connect.entities.ConnectorStatus;
 import com.michelin.ns4kafka.service.client.connect.entities.ServerInfo;
 import com.michelin.ns4kafka.util.EncryptionUtils;
+import com.michelin.ns4kafka.util.ExpiringCache;
+import com.michelin.ns4kafka.util.TokenBucket;
 import com.michelin.ns4kafka.util.exception.ResourceValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 /**
  * Kafka Connect client.
@@ -46,6 +64,24 @@ public class KafkaConnectClient {
     private List<ManagedClusterProperties> managedClusterProperties;
     @Inject
     private SecurityProperties securityProperties;
+    @Inject
+    private KafkaConnectProperties kafkaConnectProperties;
+    @Inject
+    private MeterRegistry meterRegistry;
+    private final Map<String, ConnectClusterLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, String> versions = new ConcurrentHashMap<>();
+    private ExpiringCache<String, List<ConnectorPluginInfo>> pluginsCache;
+    private ExpiringCache<ValidationKey, ConfigInfos> validationCache;
+
+    /**
+     * Create the caches of the connector plugins and of the validation results.
+     */
+    @PostConstruct
+    public void initCaches() {
+        pluginsCache = new ExpiringCache<>(kafkaConnectProperties.getPluginsCacheTtl(), Integer.MAX_VALUE);
+        validationCache = new ExpiringCache<>(kafkaConnectProperties.getValidationCacheTtl(),
+            kafkaConnectProperties.getValidationCacheMaxSize());
+    }
 
     /**
      * Get the Kafka connect version.
@@ -58,7 +94,9 @@ public class KafkaConnectClient {
         KafkaConnectHttpConfig config = getKafkaConnectConfig(kafkaCluster, connectCluster);
         HttpRequest<?> request = HttpRequest.GET(URI.create(StringUtils.prependUri(config.getUrl(), "/")))
             .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.exchange(request, ServerInfo.class));
+        return execute(kafkaCluster, connectCluster, () -> httpClient.exchange(request, ServerInfo.class))
+            .doOnNext(response -> response.getBody()
+                .ifPresent(serverInfo -> onVersion(kafkaCluster, connectCluster, serverInfo)));
     }
 
     /**
@@ -73,7 +111,8 @@ public class KafkaConnectClient {
         HttpRequest<?> request = HttpRequest.GET(
                 URI.create(StringUtils.prependUri(config.getUrl(), "/connectors?expand=info&expand=status")))
             .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.retrieve(request, Argument.mapOf(String.class, ConnectorStatus.class)));
+        return executeWithRetry(kafkaCluster, connectCluster,
+            () -> httpClient.retrieve(request, Argument.mapOf(String.class, ConnectorStatus.class)));
     }
 
     /**
@@ -93,7 +132,19 @@ public class KafkaConnectClient {
                         + connectorClass + "/config/validate")),
                 connectorSpecs)
             .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.retrieve(request, ConfigInfos.class));
+        // Copy the config, not to be affected by a later change of the given map
+        Map<String, String> validatedConfig = connectorSpecs.config() != null
+            ? Collections.unmodifiableMap(new HashMap<>(connectorSpecs.config())) : null;
+        ValidationKey validationKey = new ValidationKey(getCacheKey(kafkaCluster, connectCluster), connectorClass,
+            validatedConfig);
+        Optional<ConfigInfos> cachedConfigInfos = validationCache.get(validationKey);
+        countCacheAccess("validation", cachedConfigInfos.isPresent());
+        if (cachedConfigInfos.isPresent()) {
+            return Mono.just(cachedConfigInfos.get());
+        }
+
+        return execute(kafkaCluster, connectCluster, () -> httpClient.retrieve(request, ConfigInfos.class))
+            .doOnNext(configInfos -> validationCache.put(validationKey, configInfos));
     }
 
     /**
@@ -112,7 +163,7 @@ public class KafkaConnectClient {
             HttpRequest.PUT(URI.create(StringUtils.prependUri(config.getUrl(), CONNECTORS + connector + "/config")),
                     connectorSpecs)
                 .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.retrieve(request, ConnectorInfo.class));
+        return executeWithRetry(kafkaCluster, connectCluster, () -> httpClient.retrieve(request, ConnectorInfo.class));
     }
 
     /**
@@ -128,7 +179,7 @@ public class KafkaConnectClient {
         HttpRequest<?> request =
             HttpRequest.DELETE(URI.create(StringUtils.prependUri(config.getUrl(), CONNECTORS + connector)))
                 .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.exchange(request, Void.class));
+        return execute(kafkaCluster, connectCluster, () -> httpClient.exchange(request, Void.class));
     }
 
     /**
@@ -143,7 +194,16 @@ public class KafkaConnectClient {
         HttpRequest<?> request =
             HttpRequest.GET(URI.create(StringUtils.prependUri(config.getUrl(), "/connector-plugins")))
                 .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.retrieve(request, Argument.listOf(ConnectorPluginInfo.class)));
+        String cacheKey = getCacheKey(kafkaCluster, connectCluster);
+        Optional<List<ConnectorPluginInfo>> cachedPlugins = pluginsCache.get(cacheKey);
+        countCacheAccess("plugins", cachedPlugins.isPresent());
+        if (cachedPlugins.isPresent()) {
+            return Mono.just(cachedPlugins.get());
+        }
+
+        return executeWithRetry(kafkaCluster, connectCluster,
+            () -> httpClient.retrieve(request, Argument.listOf(ConnectorPluginInfo.class)))
+            .doOnNext(plugins -> pluginsCache.put(cacheKey, List.copyOf(plugins)));
     }
 
     /**
@@ -159,7 +219,8 @@ public class KafkaConnectClient {
         HttpRequest<?> request =
             HttpRequest.GET(URI.create(StringUtils.prependUri(config.getUrl(), CONNECTORS + connector + "/status")))
                 .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.retrieve(request, ConnectorStateInfo.class));
+        return executeWithRetry(kafkaCluster, connectCluster,
+            () -> httpClient.retrieve(request, ConnectorStateInfo.class));
     }
 
     /**
@@ -177,7 +238,7 @@ public class KafkaConnectClient {
                 StringUtils.prependUri(config.getUrl(), CONNECTORS + connector + "/tasks/"
                     + taskId + "/restart")), null)
             .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.exchange(request, Void.class));
+        return execute(kafkaCluster, connectCluster, () -> httpClient.exchange(request, Void.class));
     }
 
     /**
@@ -194,7 +255,7 @@ public class KafkaConnectClient {
             HttpRequest.PUT(URI.create(StringUtils.prependUri(config.getUrl(), CONNECTORS + connector + "/pause")),
                     null)
                 .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.exchange(request, Void.class));
+        return execute(kafkaCluster, connectCluster, () -> httpClient.exchange(request, Void.class));
     }
 
     /**
@@ -211,7 +272,106 @@ public class KafkaConnectClient {
             HttpRequest.PUT(URI.create(StringUtils.prependUri(config.getUrl(), CONNECTORS + connector + "/resume")),
                     null)
                 .basicAuth(config.getUsername(), config.getPassword());
-        return Mono.from(httpClient.exchange(request, Void.class));
+        return execute(kafkaCluster, connectCluster, () -> httpClient.exchange(request, Void.class));
+    }
+
+    /**
+     * Invalidate the cached plugins and validation results of a Kafka Connect when its version changes,
+     * as the installed plugins may have changed with it.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param serverInfo     The Kafka Connect version
+     */
+    private void onVersion(String kafkaCluster, String connectCluster, ServerInfo serverInfo) {
+        String cacheKey = getCacheKey(kafkaCluster, connectCluster);
+        String version = serverInfo.version() + "/" + serverInfo.commit();
+        String previousVersion = versions.put(cacheKey, version);
+        if (previousVersion != null && !previousVersion.equals(version)) {
+            log.info("Kafka Connect {} of Kafka cluster {} upgraded from {} to {}. Invalidating its cached plugins.",
+                connectCluster, kafkaCluster, previousVersion, version);
+            pluginsCache.invalidateIf(cacheKey::equals);
+            validationCache.invalidateIf(validationKey -> validationKey.connect().equals(cacheKey));
+        }
+    }
+
+    /**
+     * Count a hit or a miss on a cache.
+     *
+     * @param cache The cache name
+     * @param hit   Whether the value was cached
+     */
+    private void countCacheAccess(String cache, boolean hit) {
+        meterRegistry.counter("ns4kafka.connect.cache", "cache", cache, "result", hit ? "hit" : "miss").increment();
+    }
+
+    /**
+     * Get the key of a Kafka Connect in the caches.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @return The key
+     */
+    private static String getCacheKey(String kafkaCluster, String connectCluster) {
+        return kafkaCluster + "/" + connectCluster;
+    }
+
+    /**
+     * Execute a request on a Kafka Connect.
+     * The requests are rate limited per Kafka Connect.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param request        The request
+     * @param <T>            The type of the response
+     * @return The response
+     */
+    private <T> Mono<T> execute(String kafkaCluster, String connectCluster, Supplier<Publisher<T>> request) {
+        ConnectClusterLimiter limiter = limiters.computeIfAbsent(getCacheKey(kafkaCluster, connectCluster),
+            key -> new ConnectClusterLimiter(kafkaCluster, connectCluster));
+
+        return Mono.defer(limiter::acquire)
+            .then(Mono.defer(() -> {
+                long start = System.nanoTime();
+                return Mono.from(request.get())
+                    .doFinally(signal -> limiter.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+            }));
+    }
+
+    /**
+     * Execute an idempotent request on a Kafka Connect.
+     * The request is retried with a backoff when the Kafka Connect answers with a conflict, e.g. during a rebalance,
+     * or with a server error. Only the reads of the connectors and plugins, and the deployments of the connector
+     * synchronization are retried.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param connectCluster The Kafka Connect
+     * @param request        The request
+     * @param <T>            The type of the response
+     * @return The response
+     */
+    private <T> Mono<T> executeWithRetry(String kafkaCluster, String connectCluster,
+                                         Supplier<Publisher<T>> request) {
+        return execute(kafkaCluster, connectCluster, request)
+            .retryWhen(Retry.backoff(kafkaConnectProperties.getRetries(), kafkaConnectProperties.getRetryBackoff())
+                .maxBackoff(kafkaConnectProperties.getRetryMaxBackoff())
+                .filter(KafkaConnectClient::isRetryable)
+                .doBeforeRetry(retrySignal -> log.debug("Retrying request {} on Kafka Connect {} of Kafka cluster {}"
+                        + " after error: {}", retrySignal.totalRetries() + 1, connectCluster, kafkaCluster,
+                    retrySignal.failure().getMessage()))
+                .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> retrySignal.failure()));
+    }
+
+    /**
+     * Check if a request can be retried after the given error.
+     *
+     * @param error The error
+     * @return true if the Kafka Connect answered with a conflict or a server error, false otherwise
+     */
+    private static boolean isRetryable(Throwable error) {
+        return error instanceof HttpClientResponseException httpClientResponseException
+            && (httpClientResponseException.getStatus() == HttpStatus.CONFLICT
+            || httpClientResponseException.getStatus().getCode() >= 500);
     }
 
     /**
@@ -257,6 +417,52 @@ public class KafkaConnectClient {
             .build();
     }
 
+    /**
+     * Rate limiter and metrics of the requests to a Kafka Connect.
+     */
+    private class ConnectClusterLimiter {
+        private final TokenBucket tokenBucket;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final Timer latency;
+
+        private ConnectClusterLimiter(String kafkaCluster, String connectCluster) {
+            tokenBucket = kafkaConnectProperties.getRateLimit() > 0
+                ? new TokenBucket(kafkaConnectProperties.getRateLimit(), kafkaConnectProperties.getRateLimitBurst())
+                : null;
+
+            Tags tags = Tags.of("cluster", kafkaCluster, "connect-cluster", connectCluster);
+            meterRegistry.gauge("ns4kafka.connect.requests.pending", tags, pending);
+            latency = meterRegistry.timer("ns4kafka.connect.requests", tags);
+        }
+
+        /**
+         * Wait for a token, without blocking.
+         *
+         * @return A mono completing when the request can be sent
+         */
+        private Mono<Void> acquire() {
+            long waitNanos = tokenBucket != null ? tokenBucket.reserve() : 0;
+            if (waitNanos <= 0) {
+                return Mono.empty();
+            }
+
+            pending.incrementAndGet();
+            return Mono.delay(Duration.ofNanos(waitNanos))
+                .doFinally(signal -> pending.decrementAndGet())
+                .then();
+        }
+    }
+
+    /**
+     * Key of a validation result.
+     *
+     * @param connect        The key of the Kafka Connect
+     * @param connectorClass The connector class
+     * @param config         The connector config
+     */
+    private record ValidationKey(String connect, String connectorClass, Map<String, String> config) {
+    }
+
     /**
      * Kafka Connect HTTP configuration.
      */
@@ -14,6 +14,7 @@ import com.michelin.ns4kafka.service.client.schema.entities.TopicListResponse;
 import com.michelin.ns4kafka.util.exception.ResourceValidationException;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
@@ -26,7 +27,11 @@ import jakarta.inject.Singleton;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -47,17 +52,105 @@ public class SchemaRegistryClient {
     @Inject
     private List<ManagedClusterProperties> managedClusterProperties;
 
+    private final Map<String, CachedSubjects> subjectsCache = new ConcurrentHashMap<>();
+
+    private final Map<String, Mono<CachedSubjects>> subjectsLoads = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> subjectsUpdates = new ConcurrentHashMap<>();
+
     /**
      * List subjects.
+     * The subjects are cached per Kafka cluster. Once older than their time to live, the cached subjects are still
+     * returned while they are refreshed in the background. The refresh sends the ETag of the cached subjects, if any,
+     * so an unchanged list is not transferred again.
      *
      * @param kafkaCluster The Kafka cluster
      * @return A list of subjects
      */
     public Flux<String> getSubjects(String kafkaCluster) {
         ManagedClusterProperties.SchemaRegistryProperties config = getSchemaRegistry(kafkaCluster);
-        HttpRequest<?> request = HttpRequest.GET(URI.create(StringUtils.prependUri(config.getUrl(), "/subjects")))
-            .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Flux.from(httpClient.retrieve(request, String[].class)).flatMap(Flux::fromArray);
+        CachedSubjects cachedSubjects = subjectsCache.get(kafkaCluster);
+        if (cachedSubjects == null || config.getSubjectsCacheTtl().isZero()
+            || config.getSubjectsCacheTtl().isNegative()) {
+            return loadSubjects(kafkaCluster, config, cachedSubjects)
+                .flatMapIterable(CachedSubjects::subjects);
+        }
+
+        if (System.nanoTime() - cachedSubjects.loadedAt() >= config.getSubjectsCacheTtl().toNanos()) {
+            loadSubjects(kafkaCluster, config, cachedSubjects)
+                .subscribe(refreshedSubjects -> log.trace("{} subjects refreshed for Kafka cluster {}",
+                        refreshedSubjects.subjects().size(), kafkaCluster),
+                    error -> log.warn("Error refreshing the subjects of Kafka cluster {}: {}", kafkaCluster,
+                        error.getMessage()));
+        }
+
+        return Flux.fromIterable(cachedSubjects.subjects());
+    }
+
+    /**
+     * Load the subjects of a Kafka cluster.
+     * Concurrent loads of the same Kafka cluster share the same request.
+     * The loaded subjects are not cached if a subject was registered or deleted during the load, as they may miss
+     * it. The cached subjects, updated with this subject, are kept instead.
+     *
+     * @param kafkaCluster   The Kafka cluster
+     * @param config         The schema registry properties
+     * @param cachedSubjects The cached subjects, if any
+     * @return The loaded subjects
+     */
+    private Mono<CachedSubjects> loadSubjects(String kafkaCluster,
+                                              ManagedClusterProperties.SchemaRegistryProperties config,
+                                              CachedSubjects cachedSubjects) {
+        return subjectsLoads.computeIfAbsent(kafkaCluster, key -> {
+            MutableHttpRequest<?> request = HttpRequest.GET(URI.create(StringUtils.prependUri(config.getUrl(),
+                    "/subjects")))
+                .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
+            if (cachedSubjects != null && cachedSubjects.etag() != null) {
+                request.header(HttpHeaders.IF_NONE_MATCH, cachedSubjects.etag());
+            }
+
+            Mono<CachedSubjects> load = Mono.defer(() -> {
+                long updates = subjectsUpdates.getOrDefault(key, 0L);
+                return Mono.from(httpClient.exchange(request, String[].class))
+                    .map(response -> response.getStatus() == HttpStatus.NOT_MODIFIED && cachedSubjects != null
+                        ? new CachedSubjects(cachedSubjects.subjects(), cachedSubjects.etag(), System.nanoTime())
+                        : new CachedSubjects(
+                            new TreeSet<>(Arrays.asList(response.getBody().orElse(new String[0]))),
+                            response.getHeaders().get(HttpHeaders.ETAG), System.nanoTime()))
+                    .doOnNext(loadedSubjects -> subjectsCache.compute(key, (cluster, current) ->
+                        subjectsUpdates.getOrDefault(cluster, 0L) == updates ? loadedSubjects : current));
+            });
+
+            return load
+                .doFinally(signal -> subjectsLoads.remove(key))
+                .cache();
+        });
+    }
+
+    /**
+     * Add or remove a subject from the cached subjects of a Kafka cluster.
+     * The ETag of the cached subjects is dropped, as it does not match them anymore.
+     * The update is counted first, so the loads in flight do not overwrite it.
+     *
+     * @param kafkaCluster The Kafka cluster
+     * @param subject      The subject
+     * @param present      Whether the subject is added or removed
+     */
+    private void updateCachedSubjects(String kafkaCluster, String subject, boolean present) {
+        subjectsUpdates.merge(kafkaCluster, 1L, Long::sum);
+        subjectsCache.computeIfPresent(kafkaCluster, (key, cachedSubjects) -> {
+            if (cachedSubjects.subjects().contains(subject) == present) {
+                return cachedSubjects;
+            }
+
+            SortedSet<String> subjects = new TreeSet<>(cachedSubjects.subjects());
+            if (present) {
+                subjects.add(subject);
+            } else {
+                subjects.remove(subject);
+            }
+            return new CachedSubjects(subjects, null, cachedSubjects.loadedAt());
+        });
     }
 
     /**
@@ -118,7 +211,8 @@ public class SchemaRegistryClient {
             HttpRequest.POST(URI.create(StringUtils.prependUri(config.getUrl(), SUBJECTS + subject + "/versions")),
                     body)
                 .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, SchemaResponse.class));
+        return Mono.from(httpClient.retrieve(request, SchemaResponse.class))
+            .doOnNext(response -> updateCachedSubjects(kafkaCluster, subject, true));
     }
 
     /**
@@ -134,7 +228,8 @@ public class SchemaRegistryClient {
         MutableHttpRequest<?> request = HttpRequest.DELETE(
                 URI.create(StringUtils.prependUri(config.getUrl(), SUBJECTS + subject + "?permanent=" + hardDelete)))
             .basicAuth(config.getBasicAuthUsername(), config.getBasicAuthPassword());
-        return Mono.from(httpClient.retrieve(request, Integer[].class));
+        return Mono.from(httpClient.retrieve(request, Integer[].class))
+            .doOnNext(versions -> updateCachedSubjects(kafkaCluster, subject, false));
     }
 
     /**
@@ -312,4 +407,14 @@ public class SchemaRegistryClient {
 
         return config.get().getSchemaRegistry();
     }
+
+    /**
+     * Cached subjects of a Kafka cluster.
+     *
+     * @param subjects The subjects
+     * @param etag     The ETag of the subjects, if any
+     * @param loadedAt The load time, in nanoseconds
+     */
+    private record CachedSubjects(SortedSet<String> subjects, String etag, long loadedAt) {
+    }
 }
@@ -7,25 +7,34 @@ import static com.michelin.ns4kafka.service.AccessControlEntryService.PUBLIC_GRA
 
 import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.KafkaStream;
+import com.michelin.ns4kafka.model.MetadataResource;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.NamespaceRepository;
+import com.michelin.ns4kafka.repository.ResourceChangedEvent;
 import com.michelin.ns4kafka.repository.kafka.KafkaStoreException;
 import com.michelin.ns4kafka.service.AccessControlEntryService;
 import com.michelin.ns4kafka.service.ConnectorService;
 import com.michelin.ns4kafka.service.StreamService;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.runtime.event.annotation.EventListener;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -56,6 +65,10 @@ public class AccessControlEntryAsyncExecutor {
 
     private NamespaceRepository namespaceRepository;
 
+    private final AtomicLong ns4kafkaAclsVersion = new AtomicLong();
+
+    private final AtomicReference<Ns4KafkaAcls> ns4kafkaAclsCache = new AtomicReference<>();
+
     /**
      * Run the ACLs synchronization.
      */
@@ -72,18 +85,18 @@ public class AccessControlEntryAsyncExecutor {
         log.debug("Starting ACL collection for cluster {}", managedClusterProperties.getName());
 
         try {
-            // List ACLs from broker
-            List<AclBinding> brokerAcls = collectBrokerAcls(true);
-
             // List ACLs from NS4Kafka
-            List<AclBinding> ns4kafkaAcls = collectNs4KafkaAcls();
+            Ns4KafkaAcls ns4kafkaAcls = getNs4KafkaAcls();
+
+            // List ACLs from broker
+            Set<AclBinding> brokerAcls = collectBrokerAcls(ns4kafkaAcls.managedPrincipals());
 
-            List<AclBinding> toCreate = ns4kafkaAcls.stream()
+            List<AclBinding> toCreate = ns4kafkaAcls.acls().stream()
                 .filter(aclBinding -> !brokerAcls.contains(aclBinding))
                 .toList();
 
             List<AclBinding> toDelete = brokerAcls.stream()
-                .filter(aclBinding -> !ns4kafkaAcls.contains(aclBinding))
+                .filter(aclBinding -> !ns4kafkaAcls.acls().contains(aclBinding))
                 .toList();
 
             if (!toCreate.isEmpty()) {
@@ -114,16 +127,69 @@ public class AccessControlEntryAsyncExecutor {
         }
     }
 
+    /**
+     * Invalidate the ACLs from Ns4Kafka when an ACL, a Kafka Streams or a namespace of the cluster changes.
+     *
+     * @param event The resource changed event
+     */
+    @EventListener
+    public void onResourceChanged(ResourceChangedEvent event) {
+        if (isAclSource(event.previous()) || isAclSource(event.current())) {
+            ns4kafkaAclsVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Check if a resource is used to build the ACLs of the cluster.
+     *
+     * @param resource The resource
+     * @return true if it is, false otherwise
+     */
+    private boolean isAclSource(MetadataResource resource) {
+        return (resource instanceof AccessControlEntry || resource instanceof KafkaStream
+            || resource instanceof Namespace)
+            && managedClusterProperties.getName().equals(resource.getMetadata().getCluster());
+    }
+
+    /**
+     * Get the ACLs from Ns4Kafka.
+     * They are collected again only when the stores they are built from have changed since the last collection.
+     * The version is read before the stores, and the changes are notified once visible in the stores,
+     * so the ACLs are never labelled with a version newer than the stores they have been collected from.
+     *
+     * @return The ACLs from Ns4Kafka
+     */
+    private Ns4KafkaAcls getNs4KafkaAcls() {
+        long version = ns4kafkaAclsVersion.get();
+        Ns4KafkaAcls cached = ns4kafkaAclsCache.get();
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+
+        List<Namespace> namespaces = namespaceRepository.findAllForCluster(managedClusterProperties.getName());
+
+        // Collect the list of users managed in Ns4Kafka
+        Set<String> managedPrincipals = new HashSet<>();
+        managedPrincipals.add(USER_PRINCIPAL + PUBLIC_GRANTED_TO);
+        namespaces.forEach(namespace -> managedPrincipals.add(USER_PRINCIPAL + namespace.getSpec().getKafkaUser()));
+
+        Set<AclBinding> acls = Set.copyOf(collectNs4KafkaAcls(namespaces));
+        cached = new Ns4KafkaAcls(version, acls, Set.copyOf(managedPrincipals));
+        ns4kafkaAclsCache.set(cached);
+
+        return cached;
+    }
+
     /**
      * Collect the ACLs from Ns4Kafka.
      * Whenever the permission is OWNER, create 2 entries (one READ and one WRITE)
      * This is necessary to translate Ns4Kafka grouped AccessControlEntry (OWNER, WRITE, READ)
      * into Kafka Atomic ACLs (READ and WRITE)
      *
+     * @param namespaces The namespaces of the cluster
      * @return A list of ACLs
      */
-    private List<AclBinding> collectNs4KafkaAcls() {
-        List<Namespace> namespaces = namespaceRepository.findAllForCluster(managedClusterProperties.getName());
+    private List<AclBinding> collectNs4KafkaAcls(List<Namespace> namespaces) {
 
         // Converts topic, group and transaction Ns4Kafka ACLs to topic and group Kafka AclBindings
         Stream<AclBinding> aclBindingsFromAcls = namespaces
@@ -168,58 +234,59 @@ public class AccessControlEntryAsyncExecutor {
     }
 
     /**
-     * Collect the ACLs from broker.
+     * Collect the ACLs of the managed users from broker.
+     * All the ACLs are described at once, then filtered by managed user.
+     * On self-managed clusters with a few managed users only, the ACLs are described for each managed user instead.
      *
-     * @param managedUsersOnly Only retrieve ACLs from Kafka user managed by Ns4Kafka or not ?
-     * @return A list of ACLs
+     * @param managedPrincipals The principals of the users managed in Ns4Kafka
+     * @return A set of ACLs
      * @throws ExecutionException   Any execution exception during ACLs description
      * @throws InterruptedException Any interrupted exception during ACLs description
      * @throws TimeoutException     Any timeout exception during ACLs description
      */
-    private List<AclBinding> collectBrokerAcls(boolean managedUsersOnly)
+    private Set<AclBinding> collectBrokerAcls(Set<String> managedPrincipals)
         throws ExecutionException, InterruptedException, TimeoutException {
         List<ResourceType> validResourceTypes =
             List.of(org.apache.kafka.common.resource.ResourceType.TOPIC,
                 org.apache.kafka.common.resource.ResourceType.GROUP,
                 org.apache.kafka.common.resource.ResourceType.TRANSACTIONAL_ID);
 
-        AccessControlEntryFilter accessControlEntryFilter = new AccessControlEntryFilter(
-            managedClusterProperties.getProvider()
-                .equals(ManagedClusterProperties.KafkaProvider.CONFLUENT_CLOUD) ? "UserV2:*" : null,
-            null, AclOperation.ANY, AclPermissionType.ANY);
-        AclBindingFilter aclBindingFilter = new AclBindingFilter(ResourcePatternFilter.ANY, accessControlEntryFilter);
+        List<AccessControlEntryFilter> accessControlEntryFilters;
+        if (managedClusterProperties.getProvider().equals(ManagedClusterProperties.KafkaProvider.CONFLUENT_CLOUD)) {
+            accessControlEntryFilters = List.of(
+                new AccessControlEntryFilter("UserV2:*", null, AclOperation.ANY, AclPermissionType.ANY));
+        } else if (managedPrincipals.size() <= managedClusterProperties.getAclsDescribePerUserThreshold()) {
+            accessControlEntryFilters = managedPrincipals
+                .stream()
+                .map(principal -> new AccessControlEntryFilter(principal, null, AclOperation.ANY,
+                    AclPermissionType.ANY))
+                .toList();
+        } else {
+            accessControlEntryFilters = List.of(AccessControlEntryFilter.ANY);
+        }
 
-        List<AclBinding> userAcls = getAdminClient()
-            .describeAcls(aclBindingFilter)
-            .values().get(10, TimeUnit.SECONDS)
+        List<KafkaFuture<Collection<AclBinding>>> describeAclsFutures = accessControlEntryFilters
             .stream()
-            .filter(aclBinding -> validResourceTypes.contains(aclBinding.pattern().resourceType()))
+            .map(accessControlEntryFilter -> getAdminClient()
+                .describeAcls(new AclBindingFilter(ResourcePatternFilter.ANY, accessControlEntryFilter))
+                .values())
             .toList();
 
-        if (managedUsersOnly) {
-            // Collect the list of users managed in Ns4Kafka
-            List<String> managedUsers = new ArrayList<>();
-            managedUsers.add(USER_PRINCIPAL + PUBLIC_GRANTED_TO);
-            managedUsers.addAll(namespaceRepository.findAllForCluster(managedClusterProperties.getName())
-                .stream()
-                .flatMap(namespace -> Stream.of(USER_PRINCIPAL + namespace.getSpec().getKafkaUser()))
-                .toList());
+        KafkaFuture.allOf(describeAclsFutures.toArray(new KafkaFuture[0])).get(10, TimeUnit.SECONDS);
 
-            // Filter out the ACLs to retain only those matching
-            userAcls = userAcls
+        // Filter out the ACLs to retain only those matching
+        Set<AclBinding> userAcls = new HashSet<>();
+        for (KafkaFuture<Collection<AclBinding>> describeAclsFuture : describeAclsFutures) {
+            describeAclsFuture.get()
                 .stream()
-                .filter(aclBinding -> managedUsers.contains(aclBinding.entry().principal()))
-                .toList();
-
-            if (!userAcls.isEmpty()) {
-                log.trace("ACL(s) found in broker (managed scope): "
-                    + String.join(",", userAcls.stream().map(AclBinding::toString).toList()));
-            }
+                .filter(aclBinding -> validResourceTypes.contains(aclBinding.pattern().resourceType()))
+                .filter(aclBinding -> managedPrincipals.contains(aclBinding.entry().principal()))
+                .forEach(userAcls::add);
         }
 
         if (!userAcls.isEmpty()) {
-            log.trace(
-                "ACL(s) found in broker: " + String.join(",", userAcls.stream().map(AclBinding::toString).toList()));
+            log.trace("ACL(s) found in broker (managed scope): "
+                + String.join(",", userAcls.stream().map(AclBinding::toString).toList()));
         }
 
         return userAcls;
@@ -427,4 +494,14 @@ public class AccessControlEntryAsyncExecutor {
     private Admin getAdminClient() {
         return managedClusterProperties.getAdminClient();
     }
+
+    /**
+     * ACLs from Ns4Kafka.
+     *
+     * @param version           The version of the stores the ACLs were collected from
+     * @param acls              The ACLs
+     * @param managedPrincipals The principals of the users managed in Ns4Kafka
+     */
+    private record Ns4KafkaAcls(long version, Set<AclBinding> acls, Set<String> managedPrincipals) {
+    }
 }
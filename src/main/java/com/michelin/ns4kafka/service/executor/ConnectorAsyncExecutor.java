@@ -3,6 +3,7 @@ package com.michelin.ns4kafka.service.executor;
 import com.michelin.ns4kafka.model.Metadata;
 import com.michelin.ns4kafka.model.connect.cluster.ConnectCluster;
 import com.michelin.ns4kafka.model.connector.Connector;
+import com.michelin.ns4kafka.property.KafkaConnectProperties;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.ConnectorRepository;
 import com.michelin.ns4kafka.service.ConnectClusterService;
@@ -13,10 +14,16 @@ import com.michelin.ns4kafka.service.client.connect.entities.ConnectorStatus;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +40,7 @@ import reactor.core.publisher.Mono;
 public class ConnectorAsyncExecutor {
     private final Set<String> healthyConnectClusters = new HashSet<>();
     private final Set<String> idleConnectClusters = new HashSet<>();
+    private final Map<String, Map<String, NormalizedConfig>> normalizedConfigs = new ConcurrentHashMap<>();
 
     private final ManagedClusterProperties managedClusterProperties;
 
@@ -42,6 +50,8 @@ public class ConnectorAsyncExecutor {
 
     private ConnectClusterService connectClusterService;
 
+    private KafkaConnectProperties kafkaConnectProperties;
+
     /**
      * Run the connector synchronization.
      *
@@ -146,20 +156,36 @@ public class ConnectorAsyncExecutor {
             .flatMapMany(brokerConnectors -> {
                 List<Connector> ns4kafkaConnectors = collectNs4KafkaConnectors(connectCluster);
 
-                List<Connector> toCreate = ns4kafkaConnectors.stream()
-                    .filter(connector -> brokerConnectors.stream().noneMatch(
-                        connector1 -> connector1.getMetadata().getName().equals(connector.getMetadata().getName())))
-                    .toList();
-
-                List<Connector> toUpdate = ns4kafkaConnectors.stream()
-                    .filter(connector -> brokerConnectors.stream()
-                        .anyMatch(connector1 -> {
-                            if (connector1.getMetadata().getName().equals(connector.getMetadata().getName())) {
-                                return !connectorsAreSame(connector, connector1);
-                            }
-                            return false;
-                        }))
-                    .toList();
+                Map<String, Connector> brokerConnectorsByName = brokerConnectors.stream()
+                    .collect(Collectors.toMap(connector -> connector.getMetadata().getName(), Function.identity(),
+                        (connector1, connector2) -> connector2));
+
+                Map<String, NormalizedConfig> connectClusterNormalizedConfigs =
+                    getNormalizedConfigs(connectCluster);
+                connectClusterNormalizedConfigs.keySet().retainAll(ns4kafkaConnectors.stream()
+                    .map(connector -> connector.getMetadata().getName())
+                    .collect(Collectors.toSet()));
+
+                List<Connector> toCreate = new ArrayList<>();
+                List<Connector> toUpdate = new ArrayList<>();
+                ns4kafkaConnectors.forEach(connector -> {
+                    Connector brokerConnector = brokerConnectorsByName.get(connector.getMetadata().getName());
+                    if (brokerConnector == null) {
+                        toCreate.add(connector);
+                        return;
+                    }
+
+                    if (connectorsAreSame(connector, brokerConnector)) {
+                        return;
+                    }
+
+                    // Kafka Connect may return a normalized config, which is the one deployed last time
+                    NormalizedConfig normalizedConfig =
+                        connectClusterNormalizedConfigs.get(connector.getMetadata().getName());
+                    if (normalizedConfig == null || !normalizedConfig.isNormalizationOf(connector, brokerConnector)) {
+                        toUpdate.add(connector);
+                    }
+                });
 
                 if (!toCreate.isEmpty()) {
                     log.debug("Connector(s) to create: " + String.join(",",
@@ -171,8 +197,9 @@ public class ConnectorAsyncExecutor {
                         toUpdate.stream().map(connector -> connector.getMetadata().getName()).toList()));
                 }
 
+                // Bound the deployments in flight, not to overload the Kafka Connect, e.g. after a restart
                 return Flux.fromStream(Stream.concat(toCreate.stream(), toUpdate.stream()))
-                    .flatMap(this::deployConnector);
+                    .flatMap(this::deployConnector, Math.max(kafkaConnectProperties.getDeploymentConcurrency(), 1));
             });
     }
 
@@ -237,17 +264,17 @@ public class ConnectorAsyncExecutor {
      * @return true it they are, false otherwise
      */
     private boolean connectorsAreSame(Connector expected, Connector actual) {
-        Map<String, String> expectedMap = expected.getSpec().getConfig();
-        Map<String, String> actualMap = actual.getSpec().getConfig();
-
-        if (expectedMap.size() != actualMap.size()) {
-            return false;
-        }
+        return Objects.equals(expected.getSpec().getConfig(), actual.getSpec().getConfig());
+    }
 
-        return expectedMap.entrySet()
-            .stream()
-            .allMatch(e -> (e.getValue() == null && actualMap.get(e.getKey()) == null)
-                || (e.getValue() != null && e.getValue().equals(actualMap.get(e.getKey()))));
+    /**
+     * Get the configs returned by the given connect cluster for the deployed connectors, by connector name.
+     *
+     * @param connectCluster The connect cluster
+     * @return The normalized configs
+     */
+    private Map<String, NormalizedConfig> getNormalizedConfigs(String connectCluster) {
+        return normalizedConfigs.computeIfAbsent(connectCluster, key -> new ConcurrentHashMap<>());
     }
 
     /**
@@ -261,13 +288,41 @@ public class ConnectorAsyncExecutor {
                 connector.getMetadata().getName(), ConnectorSpecs.builder()
                     .config(connector.getSpec().getConfig())
                     .build())
-            .doOnSuccess(
-                httpResponse -> log.info("Success deploying connector {} on Kafka Connect {} of Kafka cluster {}.",
+            .doOnSuccess(connectorInfo -> {
+                log.info("Success deploying connector {} on Kafka Connect {} of Kafka cluster {}.",
                     connector.getMetadata().getName(), connector.getSpec().getConnectCluster(),
-                    managedClusterProperties.getName()))
+                    managedClusterProperties.getName());
+
+                // Remember the config returned by Kafka Connect, which may differ from the deployed one
+                if (connectorInfo != null && connectorInfo.config() != null) {
+                    getNormalizedConfigs(connector.getSpec().getConnectCluster()).put(
+                        connector.getMetadata().getName(),
+                        new NormalizedConfig(new HashMap<>(connector.getSpec().getConfig()),
+                            new HashMap<>(connectorInfo.config())));
+                }
+            })
             .doOnError(
                 httpError -> log.error("Error deploying connector {} on Kafka Connect {} of Kafka cluster {}: {}",
                     connector.getMetadata().getName(), connector.getSpec().getConnectCluster(),
                     managedClusterProperties.getName(), httpError.getMessage()));
     }
+
+    /**
+     * Config of a connector deployed from Ns4Kafka, and config returned by Kafka Connect for it.
+     *
+     * @param deployed The deployed config
+     * @param returned The config returned by Kafka Connect
+     */
+    private record NormalizedConfig(Map<String, String> deployed, Map<String, String> returned) {
+        /**
+         * Check if the config of a connector on Kafka Connect is the normalization of its config in Ns4Kafka.
+         *
+         * @param expected The connector in Ns4Kafka
+         * @param actual   The connector on Kafka Connect
+         * @return true if both configs are the ones deployed and returned last time, false otherwise
+         */
+        private boolean isNormalizationOf(Connector expected, Connector actual) {
+            return deployed.equals(expected.getSpec().getConfig()) && returned.equals(actual.getSpec().getConfig());
+        }
+    }
 }
@@ -1,35 +1,50 @@
 package com.michelin.ns4kafka.service.executor;
 
+import com.michelin.ns4kafka.property.ExecutorProperties;
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.runtime.event.ApplicationStartupEvent;
 import io.micronaut.runtime.event.annotation.EventListener;
-import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 
 /**
  * Schedule the asynchronous executors.
+ * Each executor of each managed cluster runs on its own schedule, on a bounded pool of threads.
  */
 @Slf4j
 @Singleton
 public class KafkaAsyncExecutorScheduler {
-    private final AtomicBoolean ready = new AtomicBoolean(false);
+    @Inject
+    ApplicationContext applicationContext;
 
     @Inject
-    List<TopicAsyncExecutor> topicAsyncExecutors;
+    ExecutorProperties executorProperties;
 
     @Inject
-    List<AccessControlEntryAsyncExecutor> accessControlEntryAsyncExecutors;
+    MeterRegistry meterRegistry;
 
     @Inject
-    List<ConnectorAsyncExecutor> connectorAsyncExecutors;
+    List<ManagedClusterProperties> managedClusterProperties;
 
     @Inject
-    List<UserAsyncExecutor> userAsyncExecutors;
+    List<ConnectorAsyncExecutor> connectorAsyncExecutors;
+
+    private ScheduledExecutorService scheduledExecutorService;
 
     /**
      * Register when the application is ready.
@@ -38,22 +53,81 @@ public class KafkaAsyncExecutorScheduler {
      */
     @EventListener
     public void onStartupEvent(ApplicationStartupEvent event) {
-        ready.compareAndSet(false, true);
+        schedule();
         scheduleConnectHealthCheck();
         scheduleConnectorSynchronization();
     }
 
     /**
-     * Schedule resource synchronization.
+     * Schedule the topic, ACL and user synchronizations of each managed cluster.
      */
-    @Scheduled(initialDelay = "12s", fixedDelay = "20s")
     public void schedule() {
-        if (ready.get()) {
-            topicAsyncExecutors.forEach(TopicAsyncExecutor::run);
-            accessControlEntryAsyncExecutors.forEach(AccessControlEntryAsyncExecutor::run);
-            userAsyncExecutors.forEach(UserAsyncExecutor::run);
-        } else {
-            log.warn("Scheduled jobs did not start because Micronaut is not ready yet");
+        scheduledExecutorService = Executors.newScheduledThreadPool(Math.max(executorProperties.getPoolSize(), 1),
+            Thread.ofPlatform().name("ns4kafka-executor-", 0).daemon().factory());
+
+        managedClusterProperties.forEach(cluster -> {
+            String clusterName = cluster.getName();
+            scheduleRun(new ScheduledRun("topic", clusterName, applicationContext
+                .getBean(TopicAsyncExecutor.class, Qualifiers.byName(clusterName))::run,
+                executorProperties.getTopicsInterval()), executorProperties.getInitialDelay());
+            scheduleRun(new ScheduledRun("acl", clusterName, applicationContext
+                .getBean(AccessControlEntryAsyncExecutor.class, Qualifiers.byName(clusterName))::run,
+                executorProperties.getAclsInterval()), executorProperties.getInitialDelay());
+            scheduleRun(new ScheduledRun("user", clusterName, applicationContext
+                .getBean(UserAsyncExecutor.class, Qualifiers.byName(clusterName))::run,
+                executorProperties.getUsersInterval()), executorProperties.getInitialDelay());
+        });
+    }
+
+    /**
+     * Schedule the next run of an executor, after the given delay plus a random jitter.
+     * The next run is only scheduled once the previous one is over, so the runs of an executor never overlap.
+     *
+     * @param scheduledRun The scheduled run
+     * @param delay        The delay
+     */
+    private void scheduleRun(ScheduledRun scheduledRun, Duration delay) {
+        long delayMillis = delay.toMillis() + (executorProperties.getJitter().toMillis() > 0
+            ? ThreadLocalRandom.current().nextLong(executorProperties.getJitter().toMillis()) : 0);
+        long dueTime = System.currentTimeMillis() + delayMillis;
+
+        scheduledExecutorService.schedule(() -> run(scheduledRun, dueTime), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Run an executor, record its metrics and schedule its next run.
+     * Any failure of the executor is logged, so it does not go unnoticed in the scheduled future. Only the virtual
+     * machine errors are rethrown.
+     *
+     * @param scheduledRun The scheduled run
+     * @param dueTime      The time the run was due
+     */
+    private void run(ScheduledRun scheduledRun, long dueTime) {
+        long startTime = System.currentTimeMillis();
+        scheduledRun.lag.set(startTime - dueTime);
+
+        try {
+            scheduledRun.runnable.run();
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable e) {
+            log.error("An error occurred during the {} synchronization of cluster {}",
+                scheduledRun.executor, scheduledRun.cluster, e);
+        } finally {
+            scheduledRun.lastRunDuration.set(System.currentTimeMillis() - startTime);
+            if (!scheduledExecutorService.isShutdown()) {
+                scheduleRun(scheduledRun, scheduledRun.interval);
+            }
+        }
+    }
+
+    /**
+     * Stop the scheduled synchronizations.
+     */
+    @PreDestroy
+    public void close() {
+        if (scheduledExecutorService != null) {
+            scheduledExecutorService.shutdownNow();
         }
     }
 
@@ -86,4 +160,29 @@ public class KafkaAsyncExecutorScheduler {
             .subscribe(connectCluster -> log.trace(
                 "Health check completed for Connect cluster \"" + connectCluster.getMetadata().getName() + "\"."));
     }
+
+    /**
+     * Schedule of an executor of a managed cluster, with its metrics.
+     */
+    private class ScheduledRun {
+        private final String executor;
+        private final String cluster;
+        private final Runnable runnable;
+        private final Duration interval;
+        private final AtomicLong lastRunDuration = new AtomicLong();
+        private final AtomicLong lag = new AtomicLong();
+
+        private ScheduledRun(String executor, String cluster, Runnable runnable, Duration interval) {
+            this.executor = executor;
+            this.cluster = cluster;
+            this.runnable = runnable;
+            this.interval = interval;
+
+            Tags tags = Tags.of("executor", executor, "cluster", cluster);
+            TimeGauge.builder("ns4kafka.executor.last.run.duration", lastRunDuration, TimeUnit.MILLISECONDS,
+                AtomicLong::get).tags(tags).register(meterRegistry);
+            TimeGauge.builder("ns4kafka.executor.lag", lag, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .tags(tags).register(meterRegistry);
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.michelin.ns4kafka.service.executor;
 import com.michelin.ns4kafka.model.Metadata;
 import com.michelin.ns4kafka.model.Topic;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import com.michelin.ns4kafka.repository.ResourceChangedEvent;
 import com.michelin.ns4kafka.repository.TopicRepository;
 import com.michelin.ns4kafka.repository.kafka.KafkaStoreException;
 import com.michelin.ns4kafka.service.client.schema.SchemaRegistryClient;
@@ -13,21 +14,26 @@ import com.michelin.ns4kafka.service.client.schema.entities.TopicDescriptionUpda
 import com.michelin.ns4kafka.service.client.schema.entities.TopicDescriptionUpdateEntity;
 import com.michelin.ns4kafka.service.client.schema.entities.TopicListResponse;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.runtime.event.annotation.EventListener;
 import jakarta.inject.Singleton;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -44,6 +50,10 @@ import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.ConfigResource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 /**
  * Topic executor.
@@ -62,16 +72,42 @@ public class TopicAsyncExecutor {
 
     private SchemaRegistryClient schemaRegistryClient;
 
+    private final Set<String> pendingTopics = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong lastFullSynchronization = new AtomicLong();
+
     private Admin getAdminClient() {
         return managedClusterProperties.getAdminClient();
     }
 
     /**
      * Run the topic synchronization.
+     * All the topics are synchronized once per full synchronization interval, to detect drifts on the broker.
+     * In between, only the topics changed in Ns4Kafka are synchronized.
      */
     public void run() {
         if (this.managedClusterProperties.isManageTopics()) {
-            synchronizeTopics();
+            if (System.currentTimeMillis() - lastFullSynchronization.get()
+                >= managedClusterProperties.getTopicsFullSyncInterval().toMillis()) {
+                synchronizeTopics();
+            } else {
+                synchronizePendingTopics();
+            }
+        }
+    }
+
+    /**
+     * Enqueue the topics of the cluster whose spec has changed in Ns4Kafka, for the next synchronization.
+     *
+     * @param event The resource changed event
+     */
+    @EventListener
+    public void onResourceChanged(ResourceChangedEvent event) {
+        if (event.current() instanceof Topic topic
+            && managedClusterProperties.getName().equals(topic.getMetadata().getCluster())
+            && (!(event.previous() instanceof Topic previousTopic)
+            || !Objects.equals(previousTopic.getSpec(), topic.getSpec()))) {
+            pendingTopics.add(topic.getMetadata().getName());
         }
     }
 
@@ -81,67 +117,131 @@ public class TopicAsyncExecutor {
     public void synchronizeTopics() {
         log.debug("Starting topic collection for cluster {}", managedClusterProperties.getName());
 
+        // The full synchronization covers the pending topics
+        lastFullSynchronization.set(System.currentTimeMillis());
+        Set<String> topicNames = new HashSet<>(pendingTopics);
+        pendingTopics.removeAll(topicNames);
+
         try {
-            Map<String, Topic> brokerTopics = collectBrokerTopics();
+            List<String> brokerTopicNames = listBrokerTopicNames();
+            Map<String, Topic> brokerTopics = collectBrokerTopicsFromNames(brokerTopicNames);
             List<Topic> ns4kafkaTopics = topicRepository.findAllForCluster(managedClusterProperties.getName());
+            synchronizeTopics(brokerTopicNames, brokerTopics, ns4kafkaTopics);
+        } catch (ExecutionException | TimeoutException | CancellationException | KafkaStoreException e) {
+            log.error("An error occurred during the topic synchronization", e);
+            pendingTopics.addAll(topicNames);
+        } catch (InterruptedException e) {
+            log.error("Thread interrupted during the topic synchronization", e);
+            pendingTopics.addAll(topicNames);
+            Thread.currentThread().interrupt();
+        }
+    }
 
-            List<Topic> createTopics = ns4kafkaTopics.stream()
-                .filter(topic -> !brokerTopics.containsKey(topic.getMetadata().getName()))
-                .toList();
-
-            List<Topic> checkTopics = ns4kafkaTopics.stream()
-                .filter(topic -> brokerTopics.containsKey(topic.getMetadata().getName()))
-                .toList();
+    /**
+     * Start the synchronization of the topics changed in Ns4Kafka since the last synchronization.
+     * Only these topics are described on the broker.
+     */
+    public void synchronizePendingTopics() {
+        if (pendingTopics.isEmpty()) {
+            return;
+        }
 
-            Map<ConfigResource, Collection<AlterConfigOp>> updateTopics = checkTopics.stream()
-                .map(topic -> {
-                    Map<String, String> actualConf =
-                        brokerTopics.get(topic.getMetadata().getName()).getSpec().getConfigs();
-                    Map<String, String> expectedConf =
-                        topic.getSpec().getConfigs() == null ? Map.of() : topic.getSpec().getConfigs();
-                    Collection<AlterConfigOp> topicConfigChanges = computeConfigChanges(expectedConf, actualConf);
-                    if (!topicConfigChanges.isEmpty()) {
-                        ConfigResource cr =
-                            new ConfigResource(ConfigResource.Type.TOPIC, topic.getMetadata().getName());
-                        return Map.entry(cr, topicConfigChanges);
-                    }
-                    return null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-            if (!createTopics.isEmpty()) {
-                log.debug("Topic(s) to create: "
-                    + String.join(", ", createTopics.stream().map(topic -> topic.getMetadata().getName()).toList()));
-            }
+        Set<String> topicNames = new HashSet<>(pendingTopics);
+        pendingTopics.removeAll(topicNames);
+        log.debug("Starting collection of topic(s) {} for cluster {}", topicNames, managedClusterProperties.getName());
 
-            if (!updateTopics.isEmpty()) {
-                log.debug("Topic(s) to update: "
-                    + String.join(", ", updateTopics.keySet().stream().map(ConfigResource::name).toList()));
-                for (Map.Entry<ConfigResource, Collection<AlterConfigOp>> e : updateTopics.entrySet()) {
-                    for (AlterConfigOp op : e.getValue()) {
-                        log.debug(
-                            e.getKey().name() + " " + op.opType().toString() + " " + op.configEntry().name() + "("
-                                + op.configEntry().value() + ")");
-                    }
-                }
-            }
+        try {
+            List<String> brokerTopicNames = listBrokerTopicNames()
+                .stream()
+                .filter(topicNames::contains)
+                .toList();
 
-            createTopics(createTopics);
-            alterTopics(updateTopics, checkTopics);
+            Map<String, Topic> brokerTopics = brokerTopicNames.isEmpty()
+                ? Map.of() : collectBrokerTopicsFromNames(brokerTopicNames);
+            List<Topic> ns4kafkaTopics = topicRepository.findAllForCluster(managedClusterProperties.getName())
+                .stream()
+                .filter(topic -> topicNames.contains(topic.getMetadata().getName()))
+                .toList();
 
-            if (managedClusterProperties.isConfluentCloud()) {
-                alterTags(checkTopics, brokerTopics);
-                alterDescriptions(checkTopics, brokerTopics);
-            }
+            synchronizeTopics(brokerTopicNames, brokerTopics, ns4kafkaTopics);
         } catch (ExecutionException | TimeoutException | CancellationException | KafkaStoreException e) {
             log.error("An error occurred during the topic synchronization", e);
+            pendingTopics.addAll(topicNames);
         } catch (InterruptedException e) {
             log.error("Thread interrupted during the topic synchronization", e);
+            pendingTopics.addAll(topicNames);
             Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * Synchronize the given Ns4Kafka topics with the given broker topics.
+     * The topics listed on the broker but that could not be described are left aside, and retried on the next
+     * synchronization.
+     *
+     * @param brokerTopicNames Topic names listed on broker
+     * @param brokerTopics     Topics described on broker
+     * @param ns4kafkaTopics   Topics from ns4kafka
+     */
+    private void synchronizeTopics(List<String> brokerTopicNames, Map<String, Topic> brokerTopics,
+                                   List<Topic> ns4kafkaTopics) {
+        Set<String> existingTopicNames = new HashSet<>(brokerTopicNames);
+        List<Topic> createTopics = ns4kafkaTopics.stream()
+            .filter(topic -> !existingTopicNames.contains(topic.getMetadata().getName()))
+            .toList();
+
+        List<Topic> checkTopics = ns4kafkaTopics.stream()
+            .filter(topic -> brokerTopics.containsKey(topic.getMetadata().getName()))
+            .toList();
+
+        ns4kafkaTopics.stream()
+            .map(topic -> topic.getMetadata().getName())
+            .filter(topicName -> existingTopicNames.contains(topicName) && !brokerTopics.containsKey(topicName))
+            .forEach(pendingTopics::add);
+
+        Map<ConfigResource, Collection<AlterConfigOp>> updateTopics = checkTopics.stream()
+            .map(topic -> {
+                Map<String, String> actualConf =
+                    brokerTopics.get(topic.getMetadata().getName()).getSpec().getConfigs();
+                Map<String, String> expectedConf =
+                    topic.getSpec().getConfigs() == null ? Map.of() : topic.getSpec().getConfigs();
+                Collection<AlterConfigOp> topicConfigChanges = computeConfigChanges(expectedConf, actualConf);
+                if (!topicConfigChanges.isEmpty()) {
+                    ConfigResource cr =
+                        new ConfigResource(ConfigResource.Type.TOPIC, topic.getMetadata().getName());
+                    return Map.entry(cr, topicConfigChanges);
+                }
+                return null;
+            })
+            .filter(Objects::nonNull)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        if (!createTopics.isEmpty()) {
+            log.debug("Topic(s) to create: "
+                + String.join(", ", createTopics.stream().map(topic -> topic.getMetadata().getName()).toList()));
+        }
+
+        if (!updateTopics.isEmpty()) {
+            log.debug("Topic(s) to update: "
+                + String.join(", ", updateTopics.keySet().stream().map(ConfigResource::name).toList()));
+            for (Map.Entry<ConfigResource, Collection<AlterConfigOp>> e : updateTopics.entrySet()) {
+                for (AlterConfigOp op : e.getValue()) {
+                    log.debug(
+                        e.getKey().name() + " " + op.opType().toString() + " " + op.configEntry().name() + "("
+                            + op.configEntry().value() + ")");
+                }
+            }
+        }
+
+        createTopics(createTopics);
+        alterTopics(updateTopics, checkTopics);
+
+        if (managedClusterProperties.isConfluentCloud()) {
+            alterTags(checkTopics, brokerTopics);
+            alterDescriptions(checkTopics, brokerTopics);
+        }
+    }
+
     /**
      * Alter tags.
      *
@@ -247,17 +347,19 @@ public class TopicAsyncExecutor {
                             log.info(String.format("Success update description %s",
                                 managedClusterProperties.getConfig().getProperty(CLUSTER_ID) + ":"
                                     + topic.getMetadata().getName() + ": " + topic.getSpec().getDescription()));
-                            topic.getMetadata().setGeneration(topic.getMetadata().getGeneration() + 1);
-                            topic.setStatus(Topic.TopicStatus.ofSuccess("Topic description updated"));
-                            topicRepository.create(topic);
+                            Topic updatedTopic = copyOf(topic);
+                            updatedTopic.getMetadata().setGeneration(topic.getMetadata().getGeneration() + 1);
+                            updatedTopic.setStatus(Topic.TopicStatus.ofSuccess("Topic description updated"));
+                            topicRepository.create(updatedTopic);
                         },
                         error -> {
                             log.error(String.format("Error update description %s",
                                 managedClusterProperties.getConfig().getProperty(CLUSTER_ID) + ":"
                                     + topic.getMetadata().getName() + ": " + topic.getSpec().getDescription()), error);
-                            topic.setStatus(Topic.TopicStatus.ofFailed("Error while updating topic description: "
-                                    + error.getMessage()));
-                            topicRepository.create(topic);
+                            Topic updatedTopic = copyOf(topic);
+                            updatedTopic.setStatus(Topic.TopicStatus.ofFailed(
+                                "Error while updating topic description: " + error.getMessage()));
+                            topicRepository.create(updatedTopic);
                         });
             }
         }
@@ -300,6 +402,8 @@ public class TopicAsyncExecutor {
 
     /**
      * Collect all topics on broker from a list of topic names.
+     * The topics are described by chunks, in parallel. A chunk is retried on failure,
+     * then left out of the result, so the topics of the other chunks are still returned.
      *
      * @param topicNames The topic names
      * @return All topics by name
@@ -308,11 +412,50 @@ public class TopicAsyncExecutor {
      * @throws TimeoutException     Any timeout exception
      */
     public Map<String, Topic> collectBrokerTopicsFromNames(List<String> topicNames)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        int chunkSize = managedClusterProperties.getTopicsDescribeChunkSize() > 0
+            ? managedClusterProperties.getTopicsDescribeChunkSize() : Math.max(topicNames.size(), 1);
+
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < topicNames.size(); i += chunkSize) {
+            chunks.add(topicNames.subList(i, Math.min(i + chunkSize, topicNames.size())));
+        }
+
+        Map<String, Topic> topics = Flux.fromIterable(chunks)
+            .flatMap(chunk -> Mono.fromCallable(() -> collectBrokerTopicsFromChunk(chunk))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .retryWhen(Retry.backoff(managedClusterProperties.getTopicsDescribeRetries(),
+                        Duration.ofSeconds(1)))
+                    .onErrorResume(error -> {
+                        log.error("Error while describing {} topic(s) on {}", chunk.size(),
+                            managedClusterProperties.getName(), error);
+                        return Mono.empty();
+                    }),
+                Math.max(managedClusterProperties.getTopicsDescribeParallelism(), 1))
+            .collect(HashMap<String, Topic>::new, Map::putAll)
+            .block();
+
+        enrichWithCatalogInfo(topics);
+
+        return topics;
+    }
+
+    /**
+     * Collect a chunk of topics on broker.
+     *
+     * @param topicNames The topic names of the chunk
+     * @return The topics by name
+     * @throws InterruptedException Any interrupted exception
+     * @throws ExecutionException   Any execution exception
+     * @throws TimeoutException     Any timeout exception
+     */
+    private Map<String, Topic> collectBrokerTopicsFromChunk(List<String> topicNames)
         throws InterruptedException, ExecutionException, TimeoutException {
         Map<String, TopicDescription> topicDescriptions = getAdminClient().describeTopics(topicNames)
-            .allTopicNames().get();
+            .allTopicNames()
+            .get(30, TimeUnit.SECONDS);
 
-        Map<String, Topic> topics = getAdminClient()
+        return getAdminClient()
             .describeConfigs(topicNames.stream()
                 .map(s -> new ConfigResource(ConfigResource.Type.TOPIC, s))
                 .toList())
@@ -343,10 +486,6 @@ public class TopicAsyncExecutor {
                 .build()
             )
             .collect(Collectors.toMap(topic -> topic.getMetadata().getName(), Function.identity()));
-
-        enrichWithCatalogInfo(topics);
-
-        return topics;
     }
 
     /**
@@ -357,12 +496,13 @@ public class TopicAsyncExecutor {
      */
     private void alterTopics(Map<ConfigResource, Collection<AlterConfigOp>> toUpdate, List<Topic> topics) {
         AlterConfigsResult alterConfigsResult = getAdminClient().incrementalAlterConfigs(toUpdate);
+        List<Topic> updatedTopics = new ArrayList<>();
         alterConfigsResult.values().forEach((key, value) -> {
-            Topic updatedTopic = topics
+            Topic updatedTopic = copyOf(topics
                 .stream()
                 .filter(t -> t.getMetadata().getName().equals(key.name()))
                 .findFirst()
-                .get();
+                .get());
 
             try {
                 value.get(10, TimeUnit.SECONDS);
@@ -383,8 +523,9 @@ public class TopicAsyncExecutor {
                 log.error(String.format("Error while updating topic configs %s on %s", key.name(),
                     managedClusterProperties.getName()), e);
             }
-            topicRepository.create(updatedTopic);
+            updatedTopics.add(updatedTopic);
         });
+        topicRepository.createAll(updatedTopics);
     }
 
     /**
@@ -404,12 +545,13 @@ public class TopicAsyncExecutor {
             .toList();
 
         CreateTopicsResult createTopicsResult = getAdminClient().createTopics(newTopics);
+        List<Topic> createdTopics = new ArrayList<>();
         createTopicsResult.values().forEach((key, value) -> {
-            Topic createdTopic = topics
+            Topic createdTopic = copyOf(topics
                 .stream()
                 .filter(t -> t.getMetadata().getName().equals(key))
                 .findFirst()
-                .get();
+                .get());
 
             try {
                 value.get(10, TimeUnit.SECONDS);
@@ -426,8 +568,9 @@ public class TopicAsyncExecutor {
                     String.format("Error while creating topic %s on %s", key, managedClusterProperties.getName()),
                     e);
             }
-            topicRepository.create(createdTopic);
+            createdTopics.add(createdTopic);
         });
+        topicRepository.createAll(createdTopics);
     }
 
     /**
@@ -468,9 +611,10 @@ public class TopicAsyncExecutor {
                                                 .stream()
                                                 .map(TagTopicInfo::typeName)
                                                 .toList())));
-                                    topic.getMetadata().setGeneration(topic.getMetadata().getGeneration() + 1);
-                                    topic.setStatus(Topic.TopicStatus.ofSuccess("Topic tags updated"));
-                                    topicRepository.create(topic);
+                                    Topic updatedTopic = copyOf(topic);
+                                    updatedTopic.getMetadata().setGeneration(topic.getMetadata().getGeneration() + 1);
+                                    updatedTopic.setStatus(Topic.TopicStatus.ofSuccess("Topic tags updated"));
+                                    topicRepository.create(updatedTopic);
                                 }),
                             error -> topicTagsMapping
                                 .forEach((topic, tags) -> {
@@ -480,9 +624,10 @@ public class TopicAsyncExecutor {
                                                 .stream()
                                                 .map(TagTopicInfo::typeName)
                                                 .toList())), error);
-                                    topic.setStatus(Topic.TopicStatus.ofFailed(
+                                    Topic updatedTopic = copyOf(topic);
+                                    updatedTopic.setStatus(Topic.TopicStatus.ofFailed(
                                         "Error while associating topic tags: " + error.getMessage()));
-                                    topicRepository.create(topic);
+                                    topicRepository.create(updatedTopic);
                                 })
                         );
                 },
@@ -506,21 +651,38 @@ public class TopicAsyncExecutor {
                             log.info(String.format("Success dissociating tag %s.",
                                 managedClusterProperties.getConfig().getProperty(CLUSTER_ID) + ":"
                                     + topic.getMetadata().getName() + "/" + tag));
-                            topic.getMetadata().setGeneration(topic.getMetadata().getGeneration() + 1);
-                            topic.setStatus(Topic.TopicStatus.ofSuccess("Topic tags updated"));
-                            topicRepository.create(topic);
+                            Topic updatedTopic = copyOf(topic);
+                            updatedTopic.getMetadata().setGeneration(topic.getMetadata().getGeneration() + 1);
+                            updatedTopic.setStatus(Topic.TopicStatus.ofSuccess("Topic tags updated"));
+                            topicRepository.create(updatedTopic);
                         },
                         error -> {
                             log.error(String.format("Error dissociating tag %s.",
                                 managedClusterProperties.getConfig().getProperty(CLUSTER_ID) + ":"
                                     + topic.getMetadata().getName() + "/" + tag), error);
-                            topic.setStatus(Topic.TopicStatus.ofFailed("Error while dissociating topic tags: "
+                            Topic updatedTopic = copyOf(topic);
+                            updatedTopic.setStatus(Topic.TopicStatus.ofFailed("Error while dissociating topic tags: "
                                 + error.getMessage()));
-                            topicRepository.create(topic);
+                            topicRepository.create(updatedTopic);
                         })
         );
     }
 
+    /**
+     * Copy a topic read from the store before updating its metadata or status.
+     * The records of the store are shared by all the readers, so they are never updated in place.
+     *
+     * @param topic The topic
+     * @return The copy of the topic
+     */
+    private static Topic copyOf(Topic topic) {
+        return Topic.builder()
+            .metadata(topic.getMetadata().toBuilder().build())
+            .spec(topic.getSpec())
+            .status(topic.getStatus())
+            .build();
+    }
+
     /**
      * Compute the configuration changes.
      *
@@ -0,0 +1,133 @@
+package com.michelin.ns4kafka.util;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache whose entries expire after a time to live.
+ * The reads are lock-free. The writes are serialized, and keep the entries in write order, which is also their
+ * expiration order, so the expired entries are purged from the head on each write. Once full, the entry closest to
+ * expiration is evicted to make room for the new one.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public class ExpiringCache<K, V> {
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<WrittenEntry<K, V>> writeOrder = new ArrayDeque<>();
+    private final long timeToLiveNanos;
+    private final int maxSize;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Constructor.
+     *
+     * @param timeToLive The time to live of the entries. The cache is disabled when zero or negative
+     * @param maxSize    The maximum number of entries
+     */
+    public ExpiringCache(Duration timeToLive, int maxSize) {
+        this(timeToLive, maxSize, System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param timeToLive The time to live of the entries. The cache is disabled when zero or negative
+     * @param maxSize    The maximum number of entries
+     * @param nanoClock  The clock, in nanoseconds
+     */
+    ExpiringCache(Duration timeToLive, int maxSize, LongSupplier nanoClock) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.maxSize = maxSize;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Get a value.
+     *
+     * @param key The key
+     * @return The value, or empty if absent or expired
+     */
+    public Optional<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        if (entry.expiresAt() - nanoClock.getAsLong() <= 0) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+
+        return Optional.of(entry.value());
+    }
+
+    /**
+     * Put a value.
+     *
+     * @param key   The key
+     * @param value The value
+     */
+    public synchronized void put(K key, V value) {
+        if (timeToLiveNanos <= 0 || maxSize <= 0) {
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        Entry<V> entry = new Entry<>(value, now + timeToLiveNanos);
+        entries.put(key, entry);
+        writeOrder.add(new WrittenEntry<>(key, entry));
+
+        // The write order keeps the overwritten and invalidated entries, which are skipped when reached
+        WrittenEntry<K, V> eldest = writeOrder.peek();
+        while (eldest != null && (entries.size() > maxSize || eldest.entry().expiresAt() - now <= 0)) {
+            writeOrder.poll();
+            entries.remove(eldest.key(), eldest.entry());
+            eldest = writeOrder.peek();
+        }
+    }
+
+    /**
+     * Invalidate the entries whose key matches the given predicate.
+     *
+     * @param predicate The predicate
+     */
+    public void invalidateIf(Predicate<K> predicate) {
+        entries.keySet().removeIf(predicate);
+    }
+
+    /**
+     * Invalidate all the entries.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        writeOrder.clear();
+    }
+
+    /**
+     * Cache entry.
+     *
+     * @param value     The value
+     * @param expiresAt The expiration time, in nanoseconds
+     * @param <V>       The type of the value
+     */
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    /**
+     * Entry of the write order.
+     *
+     * @param key   The key
+     * @param entry The entry written
+     * @param <K>   The type of the key
+     * @param <V>   The type of the value
+     */
+    private record WrittenEntry<K, V>(K key, Entry<V> entry) {
+    }
+}
@@ -650,6 +650,28 @@ public class FormatErrorUtils {
             String.format("subject %s version %s not found", invalidSubjectValue, invalidVersion));
     }
 
+    /**
+     * Invalid schema reference cycle.
+     *
+     * @param invalidSubjectValue the invalid subject value
+     * @return the error message
+     */
+    public static String invalidSchemaReferenceCycle(String invalidSubjectValue) {
+        return String.format(INVALID_FIELD, invalidSubjectValue, "references",
+            "circular reference between the schemas to apply");
+    }
+
+    /**
+     * Invalid schema duplicated subject.
+     *
+     * @param invalidNameValue the invalid name value
+     * @return the error message
+     */
+    public static String invalidSchemaDuplicate(String invalidNameValue) {
+        return String.format(INVALID_FIELD, invalidNameValue, FIELD_NAME,
+            "subject must be applied only once");
+    }
+
     /**
      * Invalid schema resource validation.
      *
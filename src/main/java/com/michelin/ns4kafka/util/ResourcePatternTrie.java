@@ -0,0 +1,259 @@
+package com.michelin.ns4kafka.util;
+
+import com.michelin.ns4kafka.model.AccessControlEntry.ResourcePatternType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Radix trie of LITERAL and PREFIXED resource patterns.
+ * Finds all the patterns matching a resource name in O(length of the name).
+ * The nodes are immutable: an update copies the nodes on the path of its pattern, then publishes the new root.
+ * Updates must come from a single thread at a time, lookups are lock-free and see the trie of the last update.
+ *
+ * @param <V> The type of the values attached to the patterns
+ */
+public class ResourcePatternTrie<V> {
+    private volatile Node<V> root = Node.empty("");
+
+    /**
+     * Attach a value to a pattern.
+     *
+     * @param pattern     The resource pattern
+     * @param patternType The pattern type
+     * @param key         The unique key of the value
+     * @param value       The value
+     */
+    public void put(String pattern, ResourcePatternType patternType, String key, V value) {
+        root = putBelow(root, pattern, 0, patternType, key, value);
+    }
+
+    /**
+     * Detach a value from a pattern.
+     * Prune the branches left empty, and merge the nodes left with a single child.
+     *
+     * @param pattern     The resource pattern
+     * @param patternType The pattern type
+     * @param key         The unique key of the value
+     */
+    public void remove(String pattern, ResourcePatternType patternType, String key) {
+        Node<V> current = root;
+        Node<V> updated = removeBelow(current, pattern, 0, patternType, key);
+        if (updated != current) {
+            root = updated;
+        }
+    }
+
+    /**
+     * Find all the values whose pattern matches the given resource.
+     * A LITERAL pattern matches when it equals the resource, a PREFIXED pattern when it is a prefix of the resource.
+     *
+     * @param resource The resource name
+     * @return The list of values
+     */
+    public List<V> findAllMatching(String resource) {
+        Node<V> node = root;
+        List<V> matching = new ArrayList<>(node.prefixed().values());
+        int offset = 0;
+        while (offset < resource.length()) {
+            node = node.children().get(resource.charAt(offset));
+            if (node == null || !resource.startsWith(node.label(), offset)) {
+                return matching;
+            }
+
+            offset += node.label().length();
+            matching.addAll(node.prefixed().values());
+        }
+
+        matching.addAll(node.literal().values());
+        return matching;
+    }
+
+    /**
+     * Check if any pattern matches the given resource.
+     *
+     * @param resource The resource name
+     * @return true if a pattern matches, false otherwise
+     */
+    public boolean anyMatching(String resource) {
+        Node<V> node = root;
+        int offset = 0;
+        while (offset < resource.length()) {
+            if (!node.prefixed().isEmpty()) {
+                return true;
+            }
+
+            node = node.children().get(resource.charAt(offset));
+            if (node == null || !resource.startsWith(node.label(), offset)) {
+                return false;
+            }
+
+            offset += node.label().length();
+        }
+
+        return !node.prefixed().isEmpty() || !node.literal().isEmpty();
+    }
+
+    /**
+     * Attach a value to a pattern, below the given node.
+     *
+     * @param node        The node, reached after the given offset of the pattern
+     * @param pattern     The resource pattern
+     * @param offset      The offset of the pattern
+     * @param patternType The pattern type
+     * @param key         The unique key of the value
+     * @param value       The value
+     * @return The updated node
+     */
+    private Node<V> putBelow(Node<V> node, String pattern, int offset, ResourcePatternType patternType, String key,
+                             V value) {
+        if (offset == pattern.length()) {
+            return node.withValue(patternType, key, value);
+        }
+
+        char next = pattern.charAt(offset);
+        Node<V> child = node.children().get(next);
+        if (child == null) {
+            return node.withChild(next, Node.<V>empty(pattern.substring(offset)).withValue(patternType, key, value));
+        }
+
+        int common = commonPrefixLength(child.label(), pattern, offset);
+        if (common < child.label().length()) {
+            // Split the edge of the child where the pattern diverges
+            child = Node.<V>empty(child.label().substring(0, common))
+                .withChild(child.label().charAt(common), child.withLabel(child.label().substring(common)));
+        }
+
+        return node.withChild(next, putBelow(child, pattern, offset + common, patternType, key, value));
+    }
+
+    /**
+     * Detach a value from a pattern, below the given node.
+     *
+     * @param node        The node, reached after the given offset of the pattern
+     * @param pattern     The resource pattern
+     * @param offset      The offset of the pattern
+     * @param patternType The pattern type
+     * @param key         The unique key of the value
+     * @return The updated node, the same node if the pattern is unknown
+     */
+    private Node<V> removeBelow(Node<V> node, String pattern, int offset, ResourcePatternType patternType, String key) {
+        if (offset == pattern.length()) {
+            return node.withoutValue(patternType, key);
+        }
+
+        char next = pattern.charAt(offset);
+        Node<V> child = node.children().get(next);
+        if (child == null || !pattern.startsWith(child.label(), offset)) {
+            return node;
+        }
+
+        Node<V> updatedChild = removeBelow(child, pattern, offset + child.label().length(), patternType, key);
+        if (updatedChild == child) {
+            return node;
+        }
+
+        return node.withChild(next, updatedChild.compact());
+    }
+
+    /**
+     * Count the characters shared by a label and a pattern from the given offset.
+     *
+     * @param label   The label
+     * @param pattern The pattern
+     * @param offset  The offset of the pattern
+     * @return The length of the common prefix
+     */
+    private static int commonPrefixLength(String label, String pattern, int offset) {
+        int length = Math.min(label.length(), pattern.length() - offset);
+        int common = 0;
+        while (common < length && label.charAt(common) == pattern.charAt(offset + common)) {
+            common++;
+        }
+
+        return common;
+    }
+
+    /**
+     * Immutable trie node.
+     * The maps are never modified once the node is built. The empty maps are shared, and only allocated on first use.
+     *
+     * @param label    The characters of the edge leading to the node
+     * @param children The child nodes, by first character of their label
+     * @param literal  The values of the LITERAL patterns ending at the node, by key
+     * @param prefixed The values of the PREFIXED patterns ending at the node, by key
+     * @param <V>      The type of the values attached to the patterns
+     */
+    private record Node<V>(String label, Map<Character, Node<V>> children, Map<String, V> literal,
+                           Map<String, V> prefixed) {
+        private static <V> Node<V> empty(String label) {
+            return new Node<>(label, Map.of(), Map.of(), Map.of());
+        }
+
+        private Node<V> withLabel(String newLabel) {
+            return new Node<>(newLabel, children, literal, prefixed);
+        }
+
+        private Node<V> withChild(char next, Node<V> child) {
+            Map<Character, Node<V>> newChildren = new HashMap<>(children);
+            if (child == null) {
+                newChildren.remove(next);
+            } else {
+                newChildren.put(next, child);
+            }
+
+            return new Node<>(label, newChildren.isEmpty() ? Map.of() : newChildren, literal, prefixed);
+        }
+
+        private Node<V> withValue(ResourcePatternType patternType, String key, V value) {
+            if (patternType == ResourcePatternType.PREFIXED) {
+                return new Node<>(label, children, literal, copyWith(prefixed, key, value));
+            }
+
+            return new Node<>(label, children, copyWith(literal, key, value), prefixed);
+        }
+
+        private Node<V> withoutValue(ResourcePatternType patternType, String key) {
+            Map<String, V> values = patternType == ResourcePatternType.PREFIXED ? prefixed : literal;
+            if (!values.containsKey(key)) {
+                return this;
+            }
+
+            Map<String, V> newValues = copyWith(values, key, null);
+            return patternType == ResourcePatternType.PREFIXED
+                ? new Node<>(label, children, literal, newValues)
+                : new Node<>(label, children, newValues, prefixed);
+        }
+
+        /**
+         * Prune the node if it is left empty, or merge it with its child if it is left with a single child.
+         *
+         * @return The compacted node, null if pruned
+         */
+        private Node<V> compact() {
+            if (!literal.isEmpty() || !prefixed.isEmpty() || children.size() > 1) {
+                return this;
+            }
+
+            if (children.isEmpty()) {
+                return null;
+            }
+
+            Node<V> child = children.values().iterator().next();
+            return child.withLabel(label + child.label());
+        }
+
+        private static <V> Map<String, V> copyWith(Map<String, V> values, String key, V value) {
+            Map<String, V> newValues = new LinkedHashMap<>(values);
+            if (value == null) {
+                newValues.remove(key);
+            } else {
+                newValues.put(key, value);
+            }
+
+            return newValues.isEmpty() ? Map.of() : newValues;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.michelin.ns4kafka.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket rate limiter.
+ * Tokens are refilled at a fixed rate, up to the capacity of the bucket. Each call reserves one token and returns
+ * how long the caller has to wait for it, so the callers are served in order without blocking a thread.
+ */
+public class TokenBucket {
+    private final double tokensPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Constructor.
+     *
+     * @param tokensPerSecond The refill rate
+     * @param capacity        The capacity of the bucket
+     */
+    public TokenBucket(double tokensPerSecond, int capacity) {
+        this(tokensPerSecond, capacity, System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tokensPerSecond The refill rate
+     * @param capacity        The capacity of the bucket
+     * @param nanoClock       The clock, in nanoseconds
+     */
+    TokenBucket(double tokensPerSecond, int capacity, LongSupplier nanoClock) {
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000D;
+        this.capacity = Math.max(capacity, 1);
+        this.nanoClock = nanoClock;
+        this.tokens = this.capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserve a token.
+     *
+     * @return The time to wait for the token, in nanoseconds
+     */
+    public synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+        tokens -= 1;
+
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+}
@@ -20,6 +20,7 @@ public enum Kind {
     RESOURCE_QUOTA_RESPONSE("ResourceQuotaResponse"),
     ROLE_BINDING("RoleBinding"),
     SCHEMA("Schema"),
+    SCHEMA_APPLY_RESPONSE("SchemaApplyResponse"),
     SCHEMA_COMPATIBILITY_STATE("SchemaCompatibilityState"),
     SCHEMA_LIST("SchemaList"),
     STATUS("Status"),
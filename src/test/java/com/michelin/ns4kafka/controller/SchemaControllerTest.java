@@ -1,9 +1,11 @@
 package com.michelin.ns4kafka.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -18,6 +20,7 @@ import com.michelin.ns4kafka.security.ResourceBasedSecurityRule;
 import com.michelin.ns4kafka.service.NamespaceService;
 import com.michelin.ns4kafka.service.SchemaService;
 import com.michelin.ns4kafka.service.client.schema.entities.SchemaCompatibilityResponse;
+import com.michelin.ns4kafka.util.enumation.ApplyStatus;
 import com.michelin.ns4kafka.util.exception.ResourceValidationException;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.http.HttpStatus;
@@ -25,8 +28,10 @@ import io.micronaut.security.utils.SecurityService;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -58,7 +63,7 @@ class SchemaControllerTest {
 
         when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
         when(schemaService.isNamespaceOwnerOfSubject(namespace, schema.getMetadata().getName())).thenReturn(true);
-        when(schemaService.validateSchema(namespace, schema)).thenReturn(Mono.just(List.of()));
+        when(schemaService.validateSchema(namespace, schema, Set.of())).thenReturn(Mono.just(List.of()));
         when(schemaService.validateSchemaCompatibility("local", schema)).thenReturn(Mono.just(List.of()));
         when(schemaService.getAllSubjectVersions(namespace, schema.getMetadata().getName())).thenReturn(Flux.empty());
         when(schemaService.existInOldVersions(namespace, schema, Collections.emptyList()))
@@ -85,7 +90,7 @@ class SchemaControllerTest {
 
         when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
         when(schemaService.isNamespaceOwnerOfSubject(namespace, schema.getMetadata().getName())).thenReturn(true);
-        when(schemaService.validateSchema(namespace, schemaV2)).thenReturn(Mono.just(List.of()));
+        when(schemaService.validateSchema(namespace, schemaV2, Set.of())).thenReturn(Mono.just(List.of()));
         when(schemaService.validateSchemaCompatibility("local", schemaV2)).thenReturn(Mono.just(List.of()));
         when(schemaService.getAllSubjectVersions(namespace, schemaV2.getMetadata().getName()))
             .thenReturn(Flux.just(schema));
@@ -112,7 +117,7 @@ class SchemaControllerTest {
 
         when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
         when(schemaService.isNamespaceOwnerOfSubject(namespace, schema.getMetadata().getName())).thenReturn(true);
-        when(schemaService.validateSchema(namespace, schema)).thenReturn(Mono.just(List.of()));
+        when(schemaService.validateSchema(namespace, schema, Set.of())).thenReturn(Mono.just(List.of()));
         when(schemaService.getAllSubjectVersions(namespace, schema.getMetadata().getName()))
             .thenReturn(Flux.just(schema));
         when(schemaService.existInOldVersions(namespace, schema, List.of(schema)))
@@ -154,7 +159,7 @@ class SchemaControllerTest {
 
         when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
         when(schemaService.isNamespaceOwnerOfSubject(namespace, schema.getMetadata().getName())).thenReturn(true);
-        when(schemaService.validateSchema(namespace, schema)).thenReturn(Mono.just(List.of("Errors")));
+        when(schemaService.validateSchema(namespace, schema, Set.of())).thenReturn(Mono.just(List.of("Errors")));
 
         StepVerifier.create(schemaController.apply("myNamespace", schema, false))
             .consumeErrorWith(error -> {
@@ -173,7 +178,7 @@ class SchemaControllerTest {
 
         when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
         when(schemaService.isNamespaceOwnerOfSubject(namespace, schema.getMetadata().getName())).thenReturn(true);
-        when(schemaService.validateSchema(namespace, schema)).thenReturn(Mono.just(List.of()));
+        when(schemaService.validateSchema(namespace, schema, Set.of())).thenReturn(Mono.just(List.of()));
         when(schemaService.validateSchemaCompatibility("local", schema)).thenReturn(Mono.just(List.of()));
         when(schemaService.getAllSubjectVersions(namespace, schema.getMetadata().getName())).thenReturn(Flux.empty());
         when(schemaService.existInOldVersions(namespace, schema, Collections.emptyList()))
@@ -199,7 +204,7 @@ class SchemaControllerTest {
         when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
         when(schemaService.isNamespaceOwnerOfSubject(namespace, schema.getMetadata().getName()))
             .thenReturn(true);
-        when(schemaService.validateSchema(namespace, schemaV2)).thenReturn(Mono.just(List.of()));
+        when(schemaService.validateSchema(namespace, schemaV2, Set.of())).thenReturn(Mono.just(List.of()));
         when(schemaService.validateSchemaCompatibility("local", schemaV2)).thenReturn(Mono.just(List.of()));
         when(schemaService.getAllSubjectVersions(namespace, schemaV2.getMetadata().getName()))
             .thenReturn(Flux.just(schema));
@@ -225,7 +230,7 @@ class SchemaControllerTest {
 
         when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
         when(schemaService.isNamespaceOwnerOfSubject(namespace, schemaV2.getMetadata().getName())).thenReturn(true);
-        when(schemaService.validateSchema(namespace, schemaV2)).thenReturn(Mono.just(List.of()));
+        when(schemaService.validateSchema(namespace, schemaV2, Set.of())).thenReturn(Mono.just(List.of()));
         when(schemaService.getAllSubjectVersions(namespace, schemaV2.getMetadata().getName()))
             .thenReturn(Flux.just(schema));
         when(schemaService.existInOldVersions(namespace, schemaV2, List.of(schema)))
@@ -441,6 +446,135 @@ class SchemaControllerTest {
         verify(schemaService, never()).deleteSubject(namespace, "prefix.subject-value");
     }
 
+    @Test
+    void applyAllInReferenceOrder() {
+        Namespace namespace = buildNamespace();
+        Schema schema = buildSchemaWithReference("prefix.address-value");
+        Schema reference = buildSchemaNamed("prefix.address-value");
+
+        when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
+        when(schemaService.isNamespaceOwnerOfSubject(any(), any())).thenReturn(true);
+        when(schemaService.validateSchema(any(), any(), any())).thenReturn(Mono.just(List.of()));
+        when(schemaService.validateSchemaCompatibility(any(), any())).thenReturn(Mono.just(List.of()));
+        when(schemaService.getAllSubjectVersions(any(), any())).thenReturn(Flux.empty());
+        when(schemaService.existInOldVersions(any(), any(), any())).thenReturn(Mono.just(false));
+        when(schemaService.register(namespace, reference)).thenReturn(Mono.just(1));
+        when(schemaService.register(namespace, schema)).thenReturn(Mono.just(2));
+        when(securityService.username()).thenReturn(Optional.of("test-user"));
+        when(securityService.hasRole(ResourceBasedSecurityRule.IS_ADMIN)).thenReturn(false);
+        doNothing().when(applicationEventPublisher).publishEvent(any());
+
+        StepVerifier.create(schemaController.applyAll("myNamespace", List.of(schema, reference), false))
+            .consumeNextWith(responses -> {
+                assertEquals(2, responses.size());
+                assertEquals("prefix.subject-value", responses.get(0).getMetadata().getName());
+                assertEquals(ApplyStatus.created, responses.get(0).getSpec().getStatus());
+                assertEquals("prefix.address-value", responses.get(1).getMetadata().getName());
+                assertEquals(ApplyStatus.created, responses.get(1).getSpec().getStatus());
+            })
+            .verifyComplete();
+
+        InOrder inOrder = inOrder(schemaService);
+        inOrder.verify(schemaService).register(namespace, reference);
+        inOrder.verify(schemaService).register(namespace, schema);
+    }
+
+    @Test
+    void applyAllDryRunWithReferenceInBatch() {
+        Namespace namespace = buildNamespace();
+        Schema schema = buildSchemaWithReference("prefix.address-value");
+        Schema reference = buildSchemaNamed("prefix.address-value");
+
+        when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
+        when(schemaService.isNamespaceOwnerOfSubject(any(), any())).thenReturn(true);
+        when(schemaService.validateSchema(namespace, reference, Set.of())).thenReturn(Mono.just(List.of()));
+        when(schemaService.validateSchema(namespace, schema, Set.of("prefix.address-value")))
+            .thenReturn(Mono.just(List.of()));
+        when(schemaService.validateSchemaCompatibility(any(), any())).thenReturn(Mono.just(List.of()));
+        when(schemaService.getAllSubjectVersions(any(), any())).thenReturn(Flux.empty());
+        when(schemaService.existInOldVersions(any(), any(), any())).thenReturn(Mono.just(false));
+
+        StepVerifier.create(schemaController.applyAll("myNamespace", List.of(schema, reference), true))
+            .consumeNextWith(responses -> {
+                assertEquals(2, responses.size());
+                assertEquals(ApplyStatus.created, responses.get(0).getSpec().getStatus());
+                assertTrue(responses.get(0).getSpec().getErrors().isEmpty());
+                assertEquals(ApplyStatus.created, responses.get(1).getSpec().getStatus());
+                assertTrue(responses.get(1).getSpec().getErrors().isEmpty());
+            })
+            .verifyComplete();
+
+        verify(schemaService, never()).register(any(), any());
+    }
+
+    @Test
+    void applyAllWithFailedReference() {
+        Namespace namespace = buildNamespace();
+        Schema schema = buildSchemaWithReference("prefix.address-value");
+        Schema reference = buildSchemaNamed("prefix.address-value");
+
+        when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
+        when(schemaService.isNamespaceOwnerOfSubject(namespace, "prefix.address-value")).thenReturn(true);
+        when(schemaService.validateSchema(namespace, reference, Set.of())).thenReturn(Mono.just(List.of("Errors")));
+
+        StepVerifier.create(schemaController.applyAll("myNamespace", List.of(schema, reference), false))
+            .consumeNextWith(responses -> {
+                assertNull(responses.get(0).getSpec().getStatus());
+                assertEquals(List.of("Invalid value \"prefix.address-value\" for field \"references\": "
+                    + "subject prefix.address-value version 1 not found."), responses.get(0).getSpec().getErrors());
+                assertNull(responses.get(1).getSpec().getStatus());
+                assertEquals(List.of("Errors"), responses.get(1).getSpec().getErrors());
+            })
+            .verifyComplete();
+
+        verify(schemaService, never()).validateSchema(any(), any(), any());
+        verify(schemaService, never()).register(any(), any());
+    }
+
+    @Test
+    void applyAllWithCircularReferences() {
+        Namespace namespace = buildNamespace();
+        Schema schema = buildSchemaWithReference("prefix.address-value");
+        Schema reference = buildSchemaNamed("prefix.address-value");
+        reference.getSpec().setReferences(List.of(Schema.SchemaSpec.Reference.builder()
+            .name("Person")
+            .subject("prefix.subject-value")
+            .version(1)
+            .build()));
+
+        when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
+
+        StepVerifier.create(schemaController.applyAll("myNamespace", List.of(schema, reference), false))
+            .consumeNextWith(responses -> {
+                assertEquals(2, responses.size());
+                assertEquals(List.of("Invalid value \"prefix.subject-value\" for field \"references\": "
+                    + "circular reference between the schemas to apply."), responses.get(0).getSpec().getErrors());
+                assertEquals(List.of("Invalid value \"prefix.address-value\" for field \"references\": "
+                    + "circular reference between the schemas to apply."), responses.get(1).getSpec().getErrors());
+            })
+            .verifyComplete();
+
+        verify(schemaService, never()).validateSchema(any(), any(), any());
+    }
+
+    @Test
+    void applyAllDuplicatedSubjects() {
+        Namespace namespace = buildNamespace();
+
+        when(namespaceService.findByName("myNamespace")).thenReturn(Optional.of(namespace));
+
+        StepVerifier.create(schemaController.applyAll("myNamespace", List.of(buildSchema(), buildSchemaV2()), false))
+            .consumeErrorWith(error -> {
+                assertEquals(ResourceValidationException.class, error.getClass());
+                assertEquals("Invalid value \"prefix.subject-value\" for field \"name\": "
+                    + "subject must be applied only once.",
+                    ((ResourceValidationException) error).getValidationErrors().get(0));
+            })
+            .verify();
+
+        verify(schemaService, never()).validateSchema(any(), any(), any());
+    }
+
     private Namespace buildNamespace() {
         return Namespace.builder()
             .metadata(Metadata.builder()
@@ -495,6 +629,22 @@ class SchemaControllerTest {
             .build();
     }
 
+    private Schema buildSchemaNamed(String subject) {
+        Schema schema = buildSchema();
+        schema.getMetadata().setName(subject);
+        return schema;
+    }
+
+    private Schema buildSchemaWithReference(String subject) {
+        Schema schema = buildSchema();
+        schema.getSpec().setReferences(List.of(Schema.SchemaSpec.Reference.builder()
+            .name("Address")
+            .subject(subject)
+            .version(1)
+            .build()));
+        return schema;
+    }
+
     private SchemaList buildSchemaList() {
         return SchemaList.builder()
             .metadata(Metadata.builder()
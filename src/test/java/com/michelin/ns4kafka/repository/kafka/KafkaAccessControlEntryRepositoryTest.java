@@ -0,0 +1,92 @@
+package com.michelin.ns4kafka.repository.kafka;
+
+import static com.michelin.ns4kafka.model.AccessControlEntry.Permission.OWNER;
+import static com.michelin.ns4kafka.model.AccessControlEntry.Permission.READ;
+import static com.michelin.ns4kafka.model.AccessControlEntry.ResourcePatternType.LITERAL;
+import static com.michelin.ns4kafka.model.AccessControlEntry.ResourcePatternType.PREFIXED;
+import static com.michelin.ns4kafka.model.AccessControlEntry.ResourceType.CONNECTOR;
+import static com.michelin.ns4kafka.model.AccessControlEntry.ResourceType.TOPIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.Metadata;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class KafkaAccessControlEntryRepositoryTest {
+    private final TestAccessControlEntryRepository repository = new TestAccessControlEntryRepository();
+
+    @Test
+    void shouldFindGrantedToMatchingResource() {
+        repository.applyAll(
+            buildAccessControlEntry("acl1", "local", "namespace1", OWNER, PREFIXED, "ns-"),
+            buildAccessControlEntry("acl2", "local", "namespace2", OWNER, LITERAL, "ns-topic1"),
+            buildAccessControlEntry("acl3", "local", "namespace3", READ, PREFIXED, "ns-"),
+            buildAccessControlEntry("acl4", "other", "namespace4", OWNER, PREFIXED, "ns-topic"));
+
+        assertEquals(Set.of("namespace1", "namespace2"),
+            repository.findAllGrantedToWithPermission("local", TOPIC, "ns-topic1", OWNER));
+        assertEquals(Set.of("namespace1"),
+            repository.findAllGrantedToWithPermission("local", TOPIC, "ns-topic2", OWNER));
+        assertEquals(Set.of("namespace3"),
+            repository.findAllGrantedToWithPermission("local", TOPIC, "ns-topic1", READ));
+        assertEquals(Set.of("namespace1", "namespace2", "namespace4"),
+            repository.findAllGrantedToWithPermission(TOPIC, "ns-topic1", OWNER));
+
+        assertTrue(repository.findAllGrantedToWithPermission("local", TOPIC, "ns1-topic1", OWNER).isEmpty());
+        assertTrue(repository.findAllGrantedToWithPermission("local", CONNECTOR, "ns-topic1", OWNER).isEmpty());
+        assertTrue(repository.findAllGrantedToWithPermission("unknown", TOPIC, "ns-topic1", OWNER).isEmpty());
+    }
+
+    @Test
+    void shouldMoveUpdatedAclToItsNewResource() {
+        repository.applyAll(buildAccessControlEntry("acl1", "local", "namespace1", OWNER, PREFIXED, "ns-"));
+        repository.applyAll(buildAccessControlEntry("acl1", "local", "namespace1", OWNER, LITERAL, "ns1-topic1"));
+
+        assertTrue(repository.findAllGrantedToWithPermission("local", TOPIC, "ns-topic1", OWNER).isEmpty());
+        assertTrue(repository.findAllGrantedToWithPermission("local", TOPIC, "ns1-topic1-suffix", OWNER).isEmpty());
+        assertEquals(Set.of("namespace1"),
+            repository.findAllGrantedToWithPermission("local", TOPIC, "ns1-topic1", OWNER));
+    }
+
+    @Test
+    void shouldRemoveDeletedAcl() {
+        AccessControlEntry deleted = buildAccessControlEntry("acl1", "local", "namespace1", OWNER, PREFIXED, "ns-");
+        repository.applyAll(deleted,
+            buildAccessControlEntry("acl2", "local", "namespace2", OWNER, PREFIXED, "ns-topic"));
+
+        repository.applyTombstone(deleted);
+
+        assertEquals(Set.of("namespace2"),
+            repository.findAllGrantedToWithPermission("local", TOPIC, "ns-topic1", OWNER));
+        assertTrue(repository.findAllGrantedToWithPermission("local", TOPIC, "ns-connect", OWNER).isEmpty());
+        assertTrue(repository.findByName("namespace1", "acl1").isEmpty());
+
+        // Deleting an unknown ACL leaves the others untouched
+        repository.applyTombstone(deleted);
+
+        assertEquals(Set.of("namespace2"),
+            repository.findAllGrantedToWithPermission("local", TOPIC, "ns-topic1", OWNER));
+    }
+
+    private static AccessControlEntry buildAccessControlEntry(String name, String cluster, String grantedTo,
+                                                              AccessControlEntry.Permission permission,
+                                                              AccessControlEntry.ResourcePatternType patternType,
+                                                              String resource) {
+        return AccessControlEntry.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .namespace(grantedTo)
+                .cluster(cluster)
+                .build())
+            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                .permission(permission)
+                .grantedTo(grantedTo)
+                .resourcePatternType(patternType)
+                .resourceType(TOPIC)
+                .resource(resource)
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.RoleBinding;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KafkaRoleBindingRepositoryTest {
+    private static final String TOPIC = "ns4kafka.role-bindings";
+
+    private KafkaRoleBindingRepository repository;
+
+    private long nextOffset;
+
+    @BeforeEach
+    void setUp() {
+        repository = new KafkaRoleBindingRepository(TOPIC, null);
+        repository.initTargetOffset = 0;
+    }
+
+    @Test
+    void shouldFindAllForGroups() {
+        RoleBinding roleBinding1 = buildRoleBinding("namespace1", "rb1", RoleBinding.SubjectType.GROUP, "group1");
+        RoleBinding roleBinding2 = buildRoleBinding("namespace2", "rb2", RoleBinding.SubjectType.GROUP, "group1");
+        RoleBinding roleBinding3 = buildRoleBinding("namespace3", "rb3", RoleBinding.SubjectType.GROUP, "group2");
+        RoleBinding userRoleBinding = buildRoleBinding("namespace4", "rb4", RoleBinding.SubjectType.USER, "group1");
+        apply(roleBinding1, roleBinding2, roleBinding3, userRoleBinding);
+
+        List<RoleBinding> group1RoleBindings = repository.findAllForGroups(List.of("group1"));
+        assertEquals(2, group1RoleBindings.size());
+        assertTrue(group1RoleBindings.containsAll(List.of(roleBinding1, roleBinding2)));
+        assertEquals(List.of(roleBinding3), repository.findAllForGroups(List.of("group2", "group3")));
+        assertTrue(repository.findAllForGroups(List.of("group3")).isEmpty());
+        assertTrue(repository.findAllForGroups(List.of()).isEmpty());
+    }
+
+    @Test
+    void shouldFindRoleBindingsOnceWhenGroupsRepeat() {
+        RoleBinding roleBinding1 = buildRoleBinding("namespace1", "rb1", RoleBinding.SubjectType.GROUP, "group1");
+        RoleBinding roleBinding2 = buildRoleBinding("namespace2", "rb2", RoleBinding.SubjectType.GROUP, "group2");
+        apply(roleBinding1, roleBinding2);
+
+        List<RoleBinding> actual = repository.findAllForGroups(List.of("group1", "group2", "group1", "group2"));
+
+        assertEquals(2, actual.size());
+        assertTrue(actual.containsAll(List.of(roleBinding1, roleBinding2)));
+    }
+
+    @Test
+    void shouldReindexRoleBindingWhenSubjectChanges() {
+        apply(buildRoleBinding("namespace1", "rb1", RoleBinding.SubjectType.GROUP, "group1"));
+
+        RoleBinding renamedGroup = buildRoleBinding("namespace1", "rb1", RoleBinding.SubjectType.GROUP, "group2");
+        apply(renamedGroup);
+
+        assertTrue(repository.findAllForGroups(List.of("group1")).isEmpty());
+        assertEquals(List.of(renamedGroup), repository.findAllForGroups(List.of("group2")));
+
+        apply(buildRoleBinding("namespace1", "rb1", RoleBinding.SubjectType.USER, "group2"));
+
+        assertTrue(repository.findAllForGroups(List.of("group1", "group2")).isEmpty());
+    }
+
+    @Test
+    void shouldUnindexDeletedRoleBinding() {
+        RoleBinding deleted = buildRoleBinding("namespace1", "rb1", RoleBinding.SubjectType.GROUP, "group1");
+        RoleBinding kept = buildRoleBinding("namespace2", "rb2", RoleBinding.SubjectType.GROUP, "group1");
+        apply(deleted, kept);
+
+        repository.receive(List.of(new ConsumerRecord<>(TOPIC, 0, nextOffset++,
+            repository.getMessageKey(deleted), null)));
+
+        assertEquals(List.of(kept), repository.findAllForGroups(List.of("group1")));
+    }
+
+    private void apply(RoleBinding... roleBindings) {
+        List<ConsumerRecord<String, RoleBinding>> records = new ArrayList<>();
+        for (RoleBinding roleBinding : roleBindings) {
+            records.add(new ConsumerRecord<>(TOPIC, 0, nextOffset++, repository.getMessageKey(roleBinding),
+                roleBinding));
+        }
+
+        repository.receive(records);
+    }
+
+    private static RoleBinding buildRoleBinding(String namespace, String name, RoleBinding.SubjectType subjectType,
+                                                String subjectName) {
+        return RoleBinding.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .namespace(namespace)
+                .cluster("local")
+                .build())
+            .spec(RoleBinding.RoleBindingSpec.builder()
+                .role(RoleBinding.Role.builder()
+                    .resourceTypes(List.of("topics"))
+                    .verbs(List.of(RoleBinding.Verb.GET))
+                    .build())
+                .subject(RoleBinding.Subject.builder()
+                    .subjectType(subjectType)
+                    .subjectName(subjectName)
+                    .build())
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.Topic;
+import io.micronaut.jackson.ObjectMapperFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Replay time of a store topic in both formats.
+ * Excluded from the unit tests, run with ./gradlew benchmark.
+ */
+@Slf4j
+@Tag("benchmark")
+class KafkaStoreReplayBenchmarkTest {
+    private static final String TOPIC = "ns4kafka.topics";
+    private static final int RECORDS = 200000;
+    private static final int BATCH_SIZE = 500;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapperFactory().objectMapper(null, null);
+
+    @Test
+    void shouldReplayStoreTopicInBothFormats() {
+        for (KafkaStoreFormat format : KafkaStoreFormat.values()) {
+            KafkaStoreSerde<Topic> serde = new KafkaStoreSerde<>(objectMapper, Topic.class, format);
+
+            List<byte[]> records = new ArrayList<>(RECORDS);
+            for (int i = 0; i < RECORDS; i++) {
+                records.add(serde.serialize(TOPIC, buildTopic(i)));
+            }
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                replay(serde, records);
+            }
+
+            long[] durations = new long[MEASURED_ITERATIONS];
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                durations[i] = replay(serde, records);
+            }
+
+            Arrays.sort(durations);
+            log.info("Replayed {} records of {} bytes in {}: median {} ms, min {} ms.", RECORDS,
+                records.stream().mapToLong(bytes -> bytes.length).sum(), format,
+                Duration.ofNanos(durations[MEASURED_ITERATIONS / 2]).toMillis(),
+                Duration.ofNanos(durations[0]).toMillis());
+        }
+    }
+
+    /**
+     * Replay the records of a store topic into an empty store, by batches, as its consumer does at startup.
+     *
+     * @param serde   The serde of the records
+     * @param records The serialized records
+     * @return The replay time, in nanoseconds
+     */
+    private long replay(KafkaStoreSerde<Topic> serde, List<byte[]> records) {
+        TopicKafkaStore store = new TopicKafkaStore();
+        store.initTargetOffset = records.size() - 1;
+
+        long start = System.nanoTime();
+        List<ConsumerRecord<String, Topic>> batch = new ArrayList<>(BATCH_SIZE);
+        for (int offset = 0; offset < records.size(); offset++) {
+            Topic topic = serde.deserialize(TOPIC, records.get(offset));
+            batch.add(new ConsumerRecord<>(TOPIC, 0, offset, store.getMessageKey(topic), topic));
+            if (batch.size() == BATCH_SIZE || offset == records.size() - 1) {
+                store.receive(batch);
+                batch.clear();
+            }
+        }
+        long duration = System.nanoTime() - start;
+
+        assertEquals(records.size(), store.getKafkaStore().size());
+        return duration;
+    }
+
+    private static Topic buildTopic(int index) {
+        return Topic.builder()
+            .metadata(Metadata.builder()
+                .name("prefix.topic" + index)
+                .namespace("namespace" + index % 100)
+                .cluster("local")
+                .build())
+            .spec(Topic.TopicSpec.builder()
+                .partitions(6)
+                .replicationFactor(3)
+                .configs(Map.of("cleanup.policy", "delete",
+                    "min.insync.replicas", "2",
+                    "retention.ms", "604800000"))
+                .build())
+            .build();
+    }
+
+    /**
+     * Kafka store of topics, fed by the benchmark instead of a consumer.
+     */
+    static class TopicKafkaStore extends KafkaStore<Topic> {
+        TopicKafkaStore() {
+            super(TOPIC, null);
+            addIndex(CLUSTER_INDEX, topic -> topic.getMetadata().getCluster());
+        }
+
+        @Override
+        String getMessageKey(Topic topic) {
+            return topic.getMetadata().getCluster() + "/" + topic.getMetadata().getName();
+        }
+    }
+}
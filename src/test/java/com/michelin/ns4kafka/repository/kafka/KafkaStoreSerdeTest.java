@@ -0,0 +1,96 @@
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreSerdeTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldSerializeAndDeserializeJson() {
+        KafkaStoreSerde<StoreRecord> serde =
+            new KafkaStoreSerde<>(objectMapper, StoreRecord.class, KafkaStoreFormat.JSON);
+        StoreRecord value = new StoreRecord("ns4kafka.topic1", Map.of("cleanup.policy", "delete"));
+
+        byte[] bytes = serde.serialize("topic", value);
+
+        assertEquals('{', bytes[0]);
+        assertEquals(value, serde.deserialize("topic", bytes));
+    }
+
+    @Test
+    void shouldSerializeAndDeserializeSmile() {
+        KafkaStoreSerde<StoreRecord> serde =
+            new KafkaStoreSerde<>(objectMapper, StoreRecord.class, KafkaStoreFormat.SMILE);
+        StoreRecord value = new StoreRecord("ns4kafka.topic1", Map.of("cleanup.policy", "delete"));
+
+        assertEquals(value, serde.deserialize("topic", serde.serialize("topic", value)));
+    }
+
+    @Test
+    void shouldReadBothFormatsWhateverTheConfiguredOne() {
+        KafkaStoreSerde<StoreRecord> jsonSerde =
+            new KafkaStoreSerde<>(objectMapper, StoreRecord.class, KafkaStoreFormat.JSON);
+        KafkaStoreSerde<StoreRecord> smileSerde =
+            new KafkaStoreSerde<>(objectMapper, StoreRecord.class, KafkaStoreFormat.SMILE);
+        StoreRecord value = new StoreRecord("ns4kafka.topic1", Map.of("cleanup.policy", "delete"));
+
+        assertEquals(value, smileSerde.deserialize("topic", jsonSerde.serialize("topic", value)));
+        assertEquals(value, jsonSerde.deserialize("topic", smileSerde.serialize("topic", value)));
+    }
+
+    @Test
+    void shouldKeepTombstones() {
+        KafkaStoreSerde<StoreRecord> serde =
+            new KafkaStoreSerde<>(objectMapper, StoreRecord.class, KafkaStoreFormat.SMILE);
+
+        assertNull(serde.serialize("topic", null));
+        assertNull(serde.deserialize("topic", null));
+    }
+
+    /**
+     * Compare the size of a store topic in both formats, and replay it in Smile.
+     */
+    @Test
+    void shouldReplaySmallerSmileRecords() {
+        KafkaStoreSerde<StoreRecord> jsonSerde =
+            new KafkaStoreSerde<>(objectMapper, StoreRecord.class, KafkaStoreFormat.JSON);
+        KafkaStoreSerde<StoreRecord> smileSerde =
+            new KafkaStoreSerde<>(objectMapper, StoreRecord.class, KafkaStoreFormat.SMILE);
+
+        List<StoreRecord> values = new ArrayList<>();
+        List<byte[]> jsonRecords = new ArrayList<>();
+        List<byte[]> smileRecords = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            StoreRecord value = new StoreRecord("ns4kafka.topic" + i, Map.of("cleanup.policy", "delete",
+                "min.insync.replicas", "2", "retention.ms", "604800000"));
+            values.add(value);
+            jsonRecords.add(jsonSerde.serialize("topic", value));
+            smileRecords.add(smileSerde.serialize("topic", value));
+        }
+
+        long jsonSize = jsonRecords.stream().mapToLong(bytes -> bytes.length).sum();
+        long smileSize = smileRecords.stream().mapToLong(bytes -> bytes.length).sum();
+
+        assertTrue(smileSize < jsonSize);
+        assertEquals(values, smileRecords.stream().map(bytes -> smileSerde.deserialize("topic", bytes)).toList());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class StoreRecord {
+        private String name;
+        private Map<String, String> configs;
+    }
+}
@@ -0,0 +1,293 @@
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.repository.ResourceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.context.ApplicationContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaStoreTest {
+    private static final String TOPIC = "ns4kafka.test";
+
+    @Mock
+    Producer<String, Namespace> kafkaProducer;
+
+    @Mock
+    ApplicationContext applicationContext;
+
+    @Mock
+    AdminClient adminClient;
+
+    private final BlockingQueue<ConsumerRecord<String, Namespace>> topicRecords = new LinkedBlockingQueue<>();
+    private final Object topicLock = new Object();
+    private long nextOffset = 0;
+    private TestKafkaStore kafkaStore;
+    private Thread reader;
+
+    @BeforeEach
+    void setUp() {
+        kafkaStore = new TestKafkaStore(kafkaProducer);
+        kafkaStore.initTimeout = 10000;
+
+        reader = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    List<ConsumerRecord<String, Namespace>> batch = new ArrayList<>();
+                    batch.add(topicRecords.take());
+                    topicRecords.drainTo(batch);
+                    kafkaStore.receive(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        reader.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        reader.interrupt();
+        reader.join();
+    }
+
+    /**
+     * Append the sent records to the topic, in the order of their offsets.
+     */
+    private void appendSentRecordsToTopic() {
+        when(kafkaProducer.send(any())).thenAnswer(invocation -> {
+            ProducerRecord<String, Namespace> producerRecord = invocation.getArgument(0);
+            synchronized (topicLock) {
+                long offset = nextOffset++;
+                topicRecords.add(new ConsumerRecord<>(TOPIC, 0, offset, producerRecord.key(),
+                    producerRecord.value()));
+                return CompletableFuture.completedFuture(
+                    new RecordMetadata(new TopicPartition(TOPIC, 0), offset, 0, 0L, 0, 0));
+            }
+        });
+    }
+
+    /**
+     * Validate each writer reads its own writes while many writers apply records to the same store.
+     */
+    @Test
+    void shouldReadOwnWritesUnderConcurrentApplies() throws Exception {
+        appendSentRecordsToTopic();
+
+        int writers = 8;
+        int recordsPerWriter = 250;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                int writerId = writer;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < recordsPerWriter; i++) {
+                        String key = "writer-" + writerId + "-" + i;
+                        assertEquals(buildNamespace(key), kafkaStore.produce(key, buildNamespace(key)));
+
+                        if (i % 2 == 0) {
+                            assertNull(kafkaStore.produce(key, null));
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(writers * recordsPerWriter / 2, kafkaStore.getKafkaStore().size());
+    }
+
+    /**
+     * Validate the published store is immutable and unchanged by the next writes.
+     */
+    @Test
+    void shouldPublishImmutableSnapshots() {
+        appendSentRecordsToTopic();
+
+        kafkaStore.produce("namespace1", buildNamespace("namespace1"));
+        Map<String, Namespace> snapshot = kafkaStore.getKafkaStore();
+        long version = kafkaStore.getKafkaStoreVersion();
+
+        kafkaStore.produce("namespace2", buildNamespace("namespace2"));
+
+        assertEquals(Map.of("namespace1", buildNamespace("namespace1")), snapshot);
+        assertEquals(Map.of("namespace1", buildNamespace("namespace1"), "namespace2", buildNamespace("namespace2")),
+            kafkaStore.getKafkaStore());
+        assertTrue(kafkaStore.getKafkaStoreVersion() > version);
+        assertThrows(UnsupportedOperationException.class,
+            () -> snapshot.put("namespace3", buildNamespace("namespace3")));
+    }
+
+    /**
+     * Validate the secondary indexes are published with the records they index.
+     */
+    @Test
+    void shouldPublishIndexesWithRecords() {
+        appendSentRecordsToTopic();
+        kafkaStore.addIndex("first-letter", namespace -> namespace.getMetadata().getName().substring(0, 1));
+
+        kafkaStore.produce("apple", buildNamespace("apple"));
+        kafkaStore.produce("avocado", buildNamespace("avocado"));
+        kafkaStore.produce("banana", buildNamespace("banana"));
+        Map<String, Namespace> snapshot = kafkaStore.getKafkaStore();
+
+        kafkaStore.produce("apple", null);
+
+        assertEquals(List.of(buildNamespace("avocado")), kafkaStore.findAllByIndex("first-letter", "a"));
+        assertEquals(List.of(buildNamespace("banana")), kafkaStore.findAllByIndex("first-letter", "b"));
+        assertTrue(kafkaStore.findAllByIndex("first-letter", "c").isEmpty());
+        assertEquals(Map.of("apple", buildNamespace("apple"), "avocado", buildNamespace("avocado"), "banana",
+            buildNamespace("banana")), snapshot);
+        assertThrows(KafkaStoreException.class, () -> kafkaStore.findAllByIndex("unknown", "a"));
+    }
+
+    /**
+     * Validate a failed write does not prevent the next writes from reading their own writes.
+     */
+    @Test
+    void shouldReadOwnWritesAfterFailedWrite() {
+        when(kafkaProducer.send(any()))
+            .thenThrow(new KafkaException("Broker unavailable"))
+            .thenAnswer(invocation -> {
+                ProducerRecord<String, Namespace> producerRecord = invocation.getArgument(0);
+                topicRecords.add(new ConsumerRecord<>(TOPIC, 0, 0, producerRecord.key(), producerRecord.value()));
+                return CompletableFuture.completedFuture(
+                    new RecordMetadata(new TopicPartition(TOPIC, 0), 0, 0, 0L, 0, 0));
+            });
+
+        assertThrows(KafkaStoreException.class, () -> kafkaStore.produce("namespace1", buildNamespace("namespace1")));
+        assertEquals(buildNamespace("namespace2"), kafkaStore.produce("namespace2", buildNamespace("namespace2")));
+        assertNull(kafkaStore.getKafkaStore().get("namespace1"));
+    }
+
+    /**
+     * Validate a waiter giving up is removed, and no longer forces the publication of the store during replay.
+     */
+    @Test
+    void shouldRemoveTimedOutWaiters() {
+        TestKafkaStore replayingStore = new TestKafkaStore(kafkaProducer);
+        replayingStore.initTimeout = 10;
+        replayingStore.initTargetOffset = 100;
+
+        assertThrows(KafkaStoreException.class, () -> replayingStore.waitUntilOffset(5, TimeUnit.MILLISECONDS));
+
+        replayingStore.receive(List.of(new ConsumerRecord<>(TOPIC, 0, 5, "namespace1", buildNamespace("namespace1"))));
+        assertTrue(replayingStore.getKafkaStore().isEmpty());
+    }
+
+    /**
+     * Validate a writer reads its own write when the record is applied during replay before the writer waits for it.
+     */
+    @Test
+    void shouldReadOwnWriteAppliedBeforeWaitingDuringReplay() {
+        TestKafkaStore replayingStore = new TestKafkaStore(kafkaProducer);
+        replayingStore.initTimeout = 10000;
+
+        // The initialization offset is not known yet, and the record is applied before the writer waits for it
+        when(kafkaProducer.send(any())).thenAnswer(invocation -> {
+            ProducerRecord<String, Namespace> producerRecord = invocation.getArgument(0);
+            replayingStore.receive(List.of(new ConsumerRecord<>(TOPIC, 0, 0, producerRecord.key(),
+                producerRecord.value())));
+            return CompletableFuture.completedFuture(new RecordMetadata(new TopicPartition(TOPIC, 0), 0, 0, 0L, 0, 0));
+        });
+
+        assertEquals(buildNamespace("namespace1"), replayingStore.produce("namespace1", buildNamespace("namespace1")));
+        assertEquals(0, replayingStore.getKafkaStoreVersion());
+    }
+
+    /**
+     * Validate the resource changed events of a batch are published once the whole batch is visible.
+     */
+    @Test
+    void shouldPublishEventsOnceBatchIsVisible() {
+        ListOffsetsResult listOffsetsResult = mock(ListOffsetsResult.class);
+        when(listOffsetsResult.partitionResult(any()))
+            .thenReturn(KafkaFuture.completedFuture(new ListOffsetsResult.ListOffsetsResultInfo(0, 0,
+                Optional.empty())));
+        when(adminClient.listOffsets(any())).thenReturn(listOffsetsResult);
+
+        TestKafkaStore namespaceStore = new TestKafkaStore(kafkaProducer);
+        namespaceStore.initTimeout = 10000;
+        namespaceStore.applicationContext = applicationContext;
+        namespaceStore.adminClient = adminClient;
+        namespaceStore.meterRegistry = new SimpleMeterRegistry();
+        namespaceStore.waitUntilKafkaReaderReachesLastOffsetInit();
+        assertTrue(namespaceStore.isInitialized());
+
+        List<Set<String>> visibleNamespaces = new ArrayList<>();
+        doAnswer(invocation -> visibleNamespaces.add(Set.copyOf(namespaceStore.getKafkaStore().keySet())))
+            .when(applicationContext).publishEvent(any(ResourceChangedEvent.class));
+
+        namespaceStore.receive(List.of(
+            new ConsumerRecord<>(TOPIC, 0, 0, "namespace1", buildNamespace("namespace1")),
+            new ConsumerRecord<>(TOPIC, 0, 1, "namespace2", buildNamespace("namespace2"))));
+
+        assertEquals(List.of(Set.of("namespace1", "namespace2"), Set.of("namespace1", "namespace2")),
+            visibleNamespaces);
+    }
+
+    private static Namespace buildNamespace(String name) {
+        return Namespace.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .cluster("local")
+                .build())
+            .build();
+    }
+
+    /**
+     * Kafka store of namespaces.
+     */
+    static class TestKafkaStore extends KafkaStore<Namespace> {
+        TestKafkaStore(Producer<String, Namespace> kafkaProducer) {
+            super(TOPIC, kafkaProducer);
+        }
+
+        @Override
+        String getMessageKey(Namespace message) {
+            return message.getMetadata().getName();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.michelin.ns4kafka.model.AccessControlEntry;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * Access control entry repository fed with records by the tests instead of a consumer.
+ */
+public class TestAccessControlEntryRepository extends KafkaAccessControlEntryRepository {
+    private static final String TOPIC = "ns4kafka.access-control-entries";
+
+    private long nextOffset;
+
+    /**
+     * Constructor.
+     * The store is published after each received batch, as an initialized store is.
+     */
+    public TestAccessControlEntryRepository() {
+        super(TOPIC, null);
+        initTargetOffset = 0;
+    }
+
+    /**
+     * Receive the given ACLs as records of the store topic.
+     *
+     * @param accessControlEntries The ACLs
+     */
+    public void applyAll(AccessControlEntry... accessControlEntries) {
+        List<ConsumerRecord<String, AccessControlEntry>> records = new ArrayList<>();
+        for (AccessControlEntry accessControlEntry : accessControlEntries) {
+            records.add(new ConsumerRecord<>(TOPIC, 0, nextOffset++, getMessageKey(accessControlEntry),
+                accessControlEntry));
+        }
+
+        receive(records);
+    }
+
+    /**
+     * Receive the tombstone of the given ACL as a record of the store topic.
+     *
+     * @param accessControlEntry The ACL
+     */
+    public void applyTombstone(AccessControlEntry accessControlEntry) {
+        receive(List.of(new ConsumerRecord<>(TOPIC, 0, nextOffset++, getMessageKey(accessControlEntry), null)));
+    }
+}
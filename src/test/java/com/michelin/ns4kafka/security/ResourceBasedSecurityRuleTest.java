@@ -3,24 +3,32 @@ package com.michelin.ns4kafka.security;
 import static com.michelin.ns4kafka.model.RoleBinding.Verb.GET;
 import static com.michelin.ns4kafka.security.auth.JwtCustomClaimNames.ROLES;
 import static com.michelin.ns4kafka.security.auth.JwtCustomClaimNames.ROLE_BINDINGS;
+import static com.nimbusds.jwt.JWTClaimNames.ISSUED_AT;
+import static com.nimbusds.jwt.JWTClaimNames.JWT_ID;
 import static com.nimbusds.jwt.JWTClaimNames.SUBJECT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.michelin.ns4kafka.model.Metadata;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.property.SecurityProperties;
 import com.michelin.ns4kafka.repository.NamespaceRepository;
+import com.michelin.ns4kafka.repository.ResourceChangedEvent;
 import com.michelin.ns4kafka.security.auth.AuthenticationRoleBinding;
 import com.michelin.ns4kafka.util.exception.ForbiddenNamespaceException;
 import com.michelin.ns4kafka.util.exception.UnknownNamespaceException;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.security.authentication.Authentication;
 import io.micronaut.security.rules.SecurityRuleResult;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -44,6 +52,15 @@ class ResourceBasedSecurityRuleTest {
     @InjectMocks
     ResourceBasedSecurityRule resourceBasedSecurityRule;
 
+    @BeforeEach
+    void setUp() {
+        when(securityProperties.getAuthorizationCacheTtl())
+            .thenReturn(Duration.ofMinutes(1));
+        when(securityProperties.getAuthorizationCacheMaxSize())
+            .thenReturn(100);
+        resourceBasedSecurityRule.initDecisionCache();
+    }
+
     @Test
     void shouldReturnUnknownWhenUnauthenticated() {
         SecurityRuleResult actual = resourceBasedSecurityRule.checkSecurity(HttpRequest.GET("/anything"), null);
@@ -281,6 +298,121 @@ class ResourceBasedSecurityRuleTest {
         assertEquals(SecurityRuleResult.UNKNOWN, actual);
     }
 
+    @Test
+    void shouldCacheDecisions() {
+        List<Map<String, ?>> roleBindings = List.of(
+            Map.of(NAMESPACE, "test",
+                VERBS, List.of(GET),
+                RESOURCE_TYPES, List.of("topics")));
+
+        Map<String, Object> claims = Map.of(SUBJECT, "user", ROLES, List.of(), ROLE_BINDINGS, roleBindings);
+
+        when(namespaceRepository.findByName("test"))
+            .thenReturn(Optional.of(Namespace.builder().build()));
+
+        assertEquals(SecurityRuleResult.ALLOWED, resourceBasedSecurityRule
+            .checkSecurity(HttpRequest.GET("/api/namespaces/test/topics"), Authentication.build("user", claims)));
+
+        // Same token, namespace, resource type and verb
+        assertEquals(SecurityRuleResult.ALLOWED, resourceBasedSecurityRule
+            .checkSecurity(HttpRequest.GET("/api/namespaces/test/topics/topic"), Authentication.build("user", claims)));
+
+        HttpRequest<?> deleteRequest = HttpRequest.DELETE("/api/namespaces/test/topics/topic");
+        assertEquals(SecurityRuleResult.UNKNOWN, resourceBasedSecurityRule
+            .checkSecurity(deleteRequest, Authentication.build("user", claims)));
+
+        verify(namespaceRepository, times(2)).findByName("test");
+    }
+
+    @Test
+    void shouldCacheDecisionsByToken() {
+        List<Map<String, ?>> roleBindings = List.of(
+            Map.of(NAMESPACE, "test",
+                VERBS, List.of(GET),
+                RESOURCE_TYPES, List.of("topics")));
+
+        Map<String, Object> claims = Map.of(SUBJECT, "user", JWT_ID, "token1", ISSUED_AT, 1000L, ROLES, List.of(),
+            ROLE_BINDINGS, roleBindings);
+
+        // A new token of the same user, whose role bindings have changed
+        Map<String, Object> newClaims = Map.of(SUBJECT, "user", JWT_ID, "token2", ISSUED_AT, 2000L, ROLES, List.of(),
+            ROLE_BINDINGS, List.of());
+
+        when(namespaceRepository.findByName("test"))
+            .thenReturn(Optional.of(Namespace.builder().build()));
+
+        HttpRequest<?> request = HttpRequest.GET("/api/namespaces/test/topics");
+        assertEquals(SecurityRuleResult.ALLOWED, resourceBasedSecurityRule
+            .checkSecurity(request, Authentication.build("user", claims)));
+        assertEquals(SecurityRuleResult.ALLOWED, resourceBasedSecurityRule
+            .checkSecurity(request, Authentication.build("user", claims)));
+        assertThrows(ForbiddenNamespaceException.class, () -> resourceBasedSecurityRule
+            .checkSecurity(request, Authentication.build("user", newClaims)));
+
+        verify(namespaceRepository, times(2)).findByName("test");
+    }
+
+    @Test
+    void shouldInvalidateDecisionsWhenNamespaceChanges() {
+        List<Map<String, ?>> roleBindings = List.of(
+            Map.of(NAMESPACE, "test",
+                VERBS, List.of(GET),
+                RESOURCE_TYPES, List.of("topics")));
+
+        Map<String, Object> claims = Map.of(SUBJECT, "user", ROLES, List.of(), ROLE_BINDINGS, roleBindings);
+        Authentication auth = Authentication.build("user", claims);
+        HttpRequest<?> request = HttpRequest.GET("/api/namespaces/test/topics");
+
+        Namespace namespace = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("test")
+                .build())
+            .build();
+
+        when(namespaceRepository.findByName("test"))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(namespace));
+
+        assertThrows(UnknownNamespaceException.class, () -> resourceBasedSecurityRule.checkSecurity(request, auth));
+        assertThrows(UnknownNamespaceException.class, () -> resourceBasedSecurityRule.checkSecurity(request, auth));
+
+        resourceBasedSecurityRule.onResourceChanged(new ResourceChangedEvent(null, namespace));
+
+        assertEquals(SecurityRuleResult.ALLOWED, resourceBasedSecurityRule.checkSecurity(request, auth));
+        verify(namespaceRepository, times(2)).findByName("test");
+    }
+
+    @Test
+    void shouldNotCacheDecisionsMadeWhileNamespaceChanges() {
+        List<Map<String, ?>> roleBindings = List.of(
+            Map.of(NAMESPACE, "test",
+                VERBS, List.of(GET),
+                RESOURCE_TYPES, List.of("topics")));
+
+        Map<String, Object> claims = Map.of(SUBJECT, "user", ROLES, List.of(), ROLE_BINDINGS, roleBindings);
+        Authentication auth = Authentication.build("user", claims);
+        HttpRequest<?> request = HttpRequest.GET("/api/namespaces/test/topics");
+
+        Namespace namespace = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("test")
+                .build())
+            .build();
+
+        // The namespace is created while the first decision is made on the previous state
+        when(namespaceRepository.findByName("test"))
+            .thenAnswer(invocation -> {
+                resourceBasedSecurityRule.onResourceChanged(new ResourceChangedEvent(null, namespace));
+                return Optional.empty();
+            })
+            .thenReturn(Optional.of(namespace));
+
+        assertThrows(UnknownNamespaceException.class, () -> resourceBasedSecurityRule.checkSecurity(request, auth));
+        assertEquals(SecurityRuleResult.ALLOWED, resourceBasedSecurityRule.checkSecurity(request, auth));
+        assertEquals(SecurityRuleResult.ALLOWED, resourceBasedSecurityRule.checkSecurity(request, auth));
+        verify(namespaceRepository, times(2)).findByName("test");
+    }
+
     @Test
     void computeRolesNoAdmin() {
         when(securityProperties.getAdminGroup())
@@ -1,9 +1,12 @@
 package com.michelin.ns4kafka.security.auth;
 
 import static com.michelin.ns4kafka.model.RoleBinding.Verb.GET;
+import static com.michelin.ns4kafka.model.RoleBinding.Verb.POST;
 import static com.michelin.ns4kafka.security.auth.JwtCustomClaimNames.ROLE_BINDINGS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.micronaut.security.authentication.Authentication;
 import java.util.HashMap;
@@ -49,4 +52,19 @@ public class AuthenticationInfoTest {
         assertIterableEquals(List.of(new AuthenticationRoleBinding("namespace", List.of(GET), List.of("topics"))),
             authenticationInfo.getRoleBindings().stream().toList());
     }
+
+    @Test
+    void shouldCompileAuthorizationIndex() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(ROLE_BINDINGS, List.of(Map.of("namespace", "namespace",
+            "verbs", List.of("GET"),
+            "resourceTypes", List.of("topics"))));
+        Authentication authentication = Authentication.build("name", List.of("role"), attributes);
+
+        AuthorizationIndex authorizationIndex = AuthenticationInfo.of(authentication).getAuthorizationIndex();
+
+        assertTrue(authorizationIndex.isAllowed("namespace", "topics", GET));
+        assertFalse(authorizationIndex.isAllowed("namespace", "topics", POST));
+        assertFalse(authorizationIndex.isAllowed("namespace", "connectors", GET));
+    }
 }
@@ -0,0 +1,39 @@
+package com.michelin.ns4kafka.security.auth;
+
+import static com.michelin.ns4kafka.model.RoleBinding.Verb.DELETE;
+import static com.michelin.ns4kafka.model.RoleBinding.Verb.GET;
+import static com.michelin.ns4kafka.model.RoleBinding.Verb.POST;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Authorization index test.
+ */
+class AuthorizationIndexTest {
+    @Test
+    void shouldCheckVerbsAndResourceTypesByNamespace() {
+        AuthorizationIndex index = AuthorizationIndex.of(List.of(
+            new AuthenticationRoleBinding("ns1", List.of(GET), List.of("topics", "connectors")),
+            new AuthenticationRoleBinding("ns1", List.of(POST), List.of("topics")),
+            new AuthenticationRoleBinding("ns2", List.of(GET, POST, DELETE), List.of("schemas"))));
+
+        assertTrue(index.hasNamespace("ns1"));
+        assertTrue(index.hasNamespace("ns2"));
+        assertFalse(index.hasNamespace("ns3"));
+
+        assertTrue(index.isAllowed("ns1", "topics", GET));
+        assertTrue(index.isAllowed("ns1", "topics", POST));
+        assertTrue(index.isAllowed("ns1", "connectors", GET));
+        assertFalse(index.isAllowed("ns1", "connectors", POST));
+        assertFalse(index.isAllowed("ns1", "topics", DELETE));
+        assertFalse(index.isAllowed("ns1", "schemas", GET));
+        assertFalse(index.isAllowed("ns1", "streams", GET));
+
+        assertTrue(index.isAllowed("ns2", "schemas", DELETE));
+        assertFalse(index.isAllowed("ns2", "topics", GET));
+        assertFalse(index.isAllowed("ns3", "topics", GET));
+    }
+}
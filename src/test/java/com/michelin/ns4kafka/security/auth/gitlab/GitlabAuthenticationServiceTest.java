@@ -1,12 +1,17 @@
 package com.michelin.ns4kafka.security.auth.gitlab;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.michelin.ns4kafka.property.SecurityProperties;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MutableHttpResponse;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -22,9 +27,21 @@ class GitlabAuthenticationServiceTest {
     @Mock
     GitlabApiClient gitlabApiClient;
 
+    @Mock
+    SecurityProperties securityProperties;
+
     @InjectMocks
     GitlabAuthenticationService gitlabAuthenticationService;
 
+    @BeforeEach
+    void setUp() {
+        when(securityProperties.getGitlabCacheTtl())
+            .thenReturn(Duration.ofMinutes(1));
+        when(securityProperties.getGitlabCacheMaxSize())
+            .thenReturn(100);
+        gitlabAuthenticationService.initCaches();
+    }
+
     @Test
     void findUserSuccess() {
         String token = "v4l1d_70k3n";
@@ -95,4 +112,66 @@ class GitlabAuthenticationServiceTest {
             .consumeNextWith(response -> assertEquals("group6", response))
             .verifyComplete();
     }
+
+    @Test
+    void findGroupsThreePagesWithoutTotalPages() {
+        String token = "v4l1d_70k3n";
+        MutableHttpResponse<List<Map<String, Object>>> pageOneResponse = HttpResponse
+            .ok(List.of(Map.<String, Object>of("full_path", "group1")))
+            .header("X-Next-Page", "2");
+
+        MutableHttpResponse<List<Map<String, Object>>> pageTwoResponse = HttpResponse
+            .ok(List.of(Map.<String, Object>of("full_path", "group2")))
+            .header("X-Next-Page", "3");
+
+        MutableHttpResponse<List<Map<String, Object>>> pageThreeResponse = HttpResponse
+            .ok(List.<Map<String, Object>>of(Map.of("full_path", "group3")));
+
+        when(gitlabApiClient.getGroupsPage(token, 1)).thenReturn(Flux.just(pageOneResponse));
+        when(gitlabApiClient.getGroupsPage(token, 2)).thenReturn(Flux.just(pageTwoResponse));
+        when(gitlabApiClient.getGroupsPage(token, 3)).thenReturn(Flux.just(pageThreeResponse));
+
+        StepVerifier.create(gitlabAuthenticationService.findAllGroups(token))
+            .consumeNextWith(response -> assertEquals("group1", response))
+            .consumeNextWith(response -> assertEquals("group2", response))
+            .consumeNextWith(response -> assertEquals("group3", response))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldCacheUsernameAndGroupsByToken() {
+        String token = "v4l1d_70k3n";
+        when(gitlabApiClient.findUser(token))
+            .thenReturn(Mono.just(Map.of("user", "test", "email", "user@mail.com")));
+        when(gitlabApiClient.getGroupsPage(token, 1))
+            .thenReturn(Flux.just(HttpResponse.ok(List.<Map<String, Object>>of(Map.of("full_path", "group1")))));
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(gitlabAuthenticationService.findUsername(token))
+                .consumeNextWith(response -> assertEquals("user@mail.com", response))
+                .verifyComplete();
+
+            StepVerifier.create(gitlabAuthenticationService.findAllGroups(token))
+                .consumeNextWith(response -> assertEquals("group1", response))
+                .verifyComplete();
+        }
+
+        verify(gitlabApiClient, times(1)).findUser(token);
+        verify(gitlabApiClient, times(1)).getGroupsPage(token, 1);
+    }
+
+    @Test
+    void shouldNotCacheFailedGroupsResolution() {
+        String token = "v4l1d_70k3n";
+        when(gitlabApiClient.getGroupsPage(token, 1))
+            .thenReturn(Flux.error(new IllegalStateException("GitLab unavailable")))
+            .thenReturn(Flux.just(HttpResponse.ok(List.<Map<String, Object>>of(Map.of("full_path", "group1")))));
+
+        StepVerifier.create(gitlabAuthenticationService.findAllGroups(token))
+            .verifyError(IllegalStateException.class);
+
+        StepVerifier.create(gitlabAuthenticationService.findAllGroups(token))
+            .consumeNextWith(response -> assertEquals("group1", response))
+            .verifyComplete();
+    }
 }
@@ -12,6 +12,7 @@ import com.michelin.ns4kafka.repository.AccessControlEntryRepository;
 import io.micronaut.context.ApplicationContext;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -65,8 +66,6 @@ class AccessControlEntryServiceTest {
             .thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns"))
             .thenReturn(Optional.empty());
-        when(accessControlEntryRepository.findAll())
-            .thenReturn(List.of());
         List<String> actual = accessControlEntryService.validate(badAcl, ns);
         assertLinesMatch(List.of(
                 "Invalid value \"CONNECT\" for field \"resourceType\": "
@@ -106,8 +105,6 @@ class AccessControlEntryServiceTest {
             .thenReturn(namespaceService);
         when(namespaceService.findByName("namespace"))
             .thenReturn(Optional.of(ns));
-        when(accessControlEntryRepository.findAll())
-            .thenReturn(List.of());
         List<String> actual = accessControlEntryService.validate(badAcl, ns);
         assertLinesMatch(List.of(
                 "Invalid value \"namespace\" for field \"grantedTo\": cannot grant ACL to yourself.",
@@ -141,7 +138,9 @@ class AccessControlEntryServiceTest {
             .thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns"))
             .thenReturn(Optional.of(Namespace.builder().build()));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllGrantedTo("*"))
+            .thenReturn(List.of());
+        when(accessControlEntryRepository.findAllGrantedTo("namespace"))
             .thenReturn(List.of(AccessControlEntry.builder()
                 .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                     .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -185,7 +184,9 @@ class AccessControlEntryServiceTest {
             .thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns"))
             .thenReturn(Optional.of(Namespace.builder().build()));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllGrantedTo("*"))
+            .thenReturn(List.of());
+        when(accessControlEntryRepository.findAllGrantedTo("namespace"))
             .thenReturn(List.of(AccessControlEntry.builder()
                 .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                     .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -227,7 +228,9 @@ class AccessControlEntryServiceTest {
             .thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns"))
             .thenReturn(Optional.of(Namespace.builder().build()));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllGrantedTo("*"))
+            .thenReturn(List.of());
+        when(accessControlEntryRepository.findAllGrantedTo("namespace"))
             .thenReturn(List.of(AccessControlEntry.builder()
                 .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                     .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -269,7 +272,9 @@ class AccessControlEntryServiceTest {
         when(namespaceService.findByName("target-ns"))
             .thenReturn(
                 Optional.of(Namespace.builder().metadata(Metadata.builder().name("target-ns").build()).build()));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllGrantedTo("*"))
+            .thenReturn(List.of());
+        when(accessControlEntryRepository.findAllGrantedTo("namespace"))
             .thenReturn(List.of(AccessControlEntry.builder()
                 .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                     .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -310,7 +315,9 @@ class AccessControlEntryServiceTest {
             .thenReturn(namespaceService);
         when(namespaceService.findByName("*"))
             .thenReturn(Optional.empty());
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllGrantedTo("*"))
+            .thenReturn(List.of());
+        when(accessControlEntryRepository.findAllGrantedTo("namespace"))
             .thenReturn(List.of(AccessControlEntry.builder()
                 .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                     .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -349,7 +356,7 @@ class AccessControlEntryServiceTest {
                 .build())
             .build();
 
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
             .thenReturn(List.of(accessControlEntry));
 
         List<String> actual = accessControlEntryService.validateAsAdmin(accessControlEntry, namespace);
@@ -444,7 +451,7 @@ class AccessControlEntryServiceTest {
                 .build())
             .build();
 
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
             .thenReturn(List.of(existing1, existing2));
 
         List<String> actual = accessControlEntryService.validateAsAdmin(toCreate1, namespace);
@@ -525,7 +532,7 @@ class AccessControlEntryServiceTest {
                 .grantedTo("target-ns")
                 .build())
             .build();
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
             .thenReturn(List.of(existing1, existing2));
 
         List<String> actual = accessControlEntryService.validateAsAdmin(toCreate1, namespace);
@@ -607,7 +614,7 @@ class AccessControlEntryServiceTest {
                 .build())
             .build();
 
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
             .thenReturn(List.of(existing1, existing2));
 
         List<String> actual = accessControlEntryService.validateAsAdmin(toCreate1, namespace);
@@ -704,7 +711,7 @@ class AccessControlEntryServiceTest {
                 .build())
             .build();
 
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
             .thenReturn(List.of(existing1, existing2, existing3));
 
         List<String> actual = accessControlEntryService.validateAsAdmin(toCreate1, namespace);
@@ -760,8 +767,10 @@ class AccessControlEntryServiceTest {
         AccessControlEntry ace4 = AccessControlEntry.builder()
             .spec(AccessControlEntry.AccessControlEntrySpec.builder().grantedTo("*").build()).build();
 
-        when(accessControlEntryRepository.findAll())
-            .thenReturn(List.of(ace1, ace2, ace3, ace4));
+        when(accessControlEntryRepository.findAllGrantedTo("namespace1"))
+            .thenReturn(List.of(ace1, ace2));
+        when(accessControlEntryRepository.findAllGrantedTo("*"))
+            .thenReturn(List.of(ace4));
         List<AccessControlEntry> actual = accessControlEntryService.findAllGrantedToNamespace(ns);
         assertEquals(3, actual.size());
     }
@@ -777,8 +786,8 @@ class AccessControlEntryServiceTest {
         AccessControlEntry ace4 = AccessControlEntry.builder()
             .spec(AccessControlEntry.AccessControlEntrySpec.builder().grantedTo("*").build()).build();
 
-        when(accessControlEntryRepository.findAll())
-            .thenReturn(List.of(ace1, ace2, ace3, ace4));
+        when(accessControlEntryRepository.findAllGrantedTo("*"))
+            .thenReturn(List.of(ace4));
         List<AccessControlEntry> actual = accessControlEntryService.findAllPublicGrantedTo();
         assertEquals(1, actual.size());
     }
@@ -797,8 +806,8 @@ class AccessControlEntryServiceTest {
             .metadata(Metadata.builder().namespace("namespace2").build())
             .spec(AccessControlEntry.AccessControlEntrySpec.builder().grantedTo("namespace2").build()).build();
 
-        when(accessControlEntryRepository.findAll())
-            .thenReturn(List.of(ace1, ace2, ace3));
+        when(accessControlEntryRepository.findAllForNamespace("namespace1"))
+            .thenReturn(List.of(ace1, ace2));
         List<AccessControlEntry> actual = accessControlEntryService.findAllForNamespace(ns);
         assertEquals(2, actual.size());
     }
@@ -823,38 +832,15 @@ class AccessControlEntryServiceTest {
 
     @Test
     void isNamespaceOwnerOfResource() {
-        AccessControlEntry ace1 = AccessControlEntry.builder()
-            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                .permission(AccessControlEntry.Permission.OWNER)
-                .resource("main")
-                .grantedTo("namespace")
-                .build()
-            )
-            .build();
-        AccessControlEntry ace2 = AccessControlEntry.builder()
-            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                .resourceType(AccessControlEntry.ResourceType.CONNECT)
-                .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                .permission(AccessControlEntry.Permission.OWNER)
-                .resource("connect")
-                .grantedTo("namespace")
-                .build()
-            )
-            .build();
-        AccessControlEntry ace3 = AccessControlEntry.builder()
-            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                .resourceType(AccessControlEntry.ResourceType.CONNECT)
-                .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                .permission(AccessControlEntry.Permission.WRITE)
-                .resource("connect")
-                .grantedTo("namespace-other")
-                .build()
-            )
-            .build();
-        when(accessControlEntryRepository.findAll())
-            .thenReturn(List.of(ace1, ace2, ace3));
+        when(accessControlEntryRepository.findAllGrantedToWithPermission(AccessControlEntry.ResourceType.CONNECT,
+            "connect", AccessControlEntry.Permission.OWNER))
+            .thenReturn(Set.of("namespace"));
+        when(accessControlEntryRepository.findAllGrantedToWithPermission(AccessControlEntry.ResourceType.TOPIC,
+            "main", AccessControlEntry.Permission.OWNER))
+            .thenReturn(Set.of("namespace"));
+        when(accessControlEntryRepository.findAllGrantedToWithPermission(AccessControlEntry.ResourceType.TOPIC,
+            "main.sub", AccessControlEntry.Permission.OWNER))
+            .thenReturn(Set.of("namespace"));
         assertTrue(
             accessControlEntryService.isNamespaceOwnerOfResource("namespace",
                 AccessControlEntry.ResourceType.CONNECT,
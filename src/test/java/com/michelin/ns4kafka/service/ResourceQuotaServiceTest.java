@@ -15,16 +15,19 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.Metadata;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Topic;
 import com.michelin.ns4kafka.model.connector.Connector;
 import com.michelin.ns4kafka.model.quota.ResourceQuota;
 import com.michelin.ns4kafka.model.quota.ResourceQuotaResponse;
+import com.michelin.ns4kafka.repository.ResourceChangedEvent;
 import com.michelin.ns4kafka.repository.ResourceQuotaRepository;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -45,6 +48,9 @@ class ResourceQuotaServiceTest {
     @Mock
     ConnectorService connectorService;
 
+    @Mock
+    AccessControlEntryService accessControlEntryService;
+
     @Test
     void findByNamespace() {
         Namespace ns = Namespace.builder()
@@ -1265,4 +1271,142 @@ class ResourceQuotaServiceTest {
             resourceQuotaService.getUsedQuotaByNamespaces(List.of(ns1, ns2, ns3, ns4));
         assertEquals(4, response.size());
     }
+
+    @Test
+    void shouldMaintainUsageWhenTopicsAndConnectorsChange() {
+        Namespace ns = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("namespace")
+                .cluster("local")
+                .build())
+            .spec(Namespace.NamespaceSpec.builder()
+                .build())
+            .build();
+
+        Topic topic1 = buildTopic("topic1", 6, "1000");
+        Topic topic2 = buildTopic("topic2", 3, "2000");
+        Topic topic2Updated = buildTopic("topic2", 6, "2000");
+
+        Connector connector = Connector.builder()
+            .metadata(Metadata.builder()
+                .name("connector")
+                .cluster("local")
+                .build())
+            .build();
+
+        when(topicService.findAllForNamespace(ns))
+            .thenReturn(List.of(topic1));
+        when(accessControlEntryService.findAllOwnersOfResource(AccessControlEntry.ResourceType.TOPIC, "topic2"))
+            .thenReturn(Set.of("namespace"));
+        when(accessControlEntryService.findAllOwnersOfResource(AccessControlEntry.ResourceType.CONNECT, "connector"))
+            .thenReturn(Set.of("namespace"));
+
+        assertEquals(1L, resourceQuotaService.getCurrentCountTopicsByNamespace(ns));
+
+        resourceQuotaService.onResourceChanged(new ResourceChangedEvent(null, topic2));
+        resourceQuotaService.onResourceChanged(new ResourceChangedEvent(null, topic2));
+        resourceQuotaService.onResourceChanged(new ResourceChangedEvent(null, connector));
+
+        assertEquals(2L, resourceQuotaService.getCurrentCountTopicsByNamespace(ns));
+        assertEquals(9L, resourceQuotaService.getCurrentCountPartitionsByNamespace(ns));
+        assertEquals(12000L, resourceQuotaService.getCurrentDiskTopicsByNamespace(ns));
+        assertEquals(1L, resourceQuotaService.getCurrentCountConnectorsByNamespace(ns));
+
+        resourceQuotaService.onResourceChanged(new ResourceChangedEvent(topic2, topic2Updated));
+
+        assertEquals(2L, resourceQuotaService.getCurrentCountTopicsByNamespace(ns));
+        assertEquals(12L, resourceQuotaService.getCurrentCountPartitionsByNamespace(ns));
+        assertEquals(18000L, resourceQuotaService.getCurrentDiskTopicsByNamespace(ns));
+
+        resourceQuotaService.onResourceChanged(new ResourceChangedEvent(topic2Updated, null));
+        resourceQuotaService.onResourceChanged(new ResourceChangedEvent(connector, null));
+
+        assertEquals(1L, resourceQuotaService.getCurrentCountTopicsByNamespace(ns));
+        assertEquals(6L, resourceQuotaService.getCurrentCountPartitionsByNamespace(ns));
+        assertEquals(6000L, resourceQuotaService.getCurrentDiskTopicsByNamespace(ns));
+        assertEquals(0L, resourceQuotaService.getCurrentCountConnectorsByNamespace(ns));
+
+        verify(topicService, times(1)).findAllForNamespace(ns);
+    }
+
+    @Test
+    void shouldCountUsageAgainWhenOwnerAclChanges() {
+        Namespace ns = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("namespace")
+                .cluster("local")
+                .build())
+            .spec(Namespace.NamespaceSpec.builder()
+                .build())
+            .build();
+
+        AccessControlEntry ownerAcl = AccessControlEntry.builder()
+            .metadata(Metadata.builder()
+                .name("acl")
+                .cluster("local")
+                .build())
+            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                .resource("topic")
+                .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                .permission(AccessControlEntry.Permission.OWNER)
+                .grantedTo("namespace")
+                .build())
+            .build();
+
+        when(topicService.findAllForNamespace(ns))
+            .thenReturn(List.of(buildTopic("topic1", 6, "1000")))
+            .thenReturn(List.of(buildTopic("topic1", 6, "1000"), buildTopic("topic2", 3, "1000")));
+
+        assertEquals(1L, resourceQuotaService.getCurrentCountTopicsByNamespace(ns));
+        assertEquals(1L, resourceQuotaService.getCurrentCountTopicsByNamespace(ns));
+
+        resourceQuotaService.onResourceChanged(new ResourceChangedEvent(null, ownerAcl));
+
+        assertEquals(2L, resourceQuotaService.getCurrentCountTopicsByNamespace(ns));
+        assertEquals(9L, resourceQuotaService.getCurrentCountPartitionsByNamespace(ns));
+        verify(topicService, times(2)).findAllForNamespace(ns);
+    }
+
+    @Test
+    void shouldCountUsageAgainWhenTopicChangesDuringCount() {
+        Namespace ns = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("namespace")
+                .cluster("local")
+                .build())
+            .spec(Namespace.NamespaceSpec.builder()
+                .build())
+            .build();
+
+        Topic topic1 = buildTopic("topic1", 6, "1000");
+        Topic topic2 = buildTopic("topic2", 3, "1000");
+
+        // The topic is created, and its change published, while the topics of the first read are counted
+        when(topicService.findAllForNamespace(ns))
+            .thenAnswer(invocation -> {
+                resourceQuotaService.onResourceChanged(new ResourceChangedEvent(null, topic2));
+                return List.of(topic1);
+            })
+            .thenReturn(List.of(topic1, topic2));
+
+        assertEquals(1L, resourceQuotaService.getCurrentCountTopicsByNamespace(ns));
+        assertEquals(2L, resourceQuotaService.getCurrentCountTopicsByNamespace(ns));
+        assertEquals(9L, resourceQuotaService.getCurrentCountPartitionsByNamespace(ns));
+        verify(topicService, times(2)).findAllForNamespace(ns);
+    }
+
+    private Topic buildTopic(String name, int partitions, String retentionBytes) {
+        return Topic.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .cluster("local")
+                .namespace("namespace")
+                .build())
+            .spec(Topic.TopicSpec.builder()
+                .partitions(partitions)
+                .configs(Map.of(RETENTION_BYTES_CONFIG, retentionBytes))
+                .build())
+            .build();
+    }
 }
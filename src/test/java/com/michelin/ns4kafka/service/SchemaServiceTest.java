@@ -3,6 +3,7 @@ package com.michelin.ns4kafka.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,6 +19,7 @@ import com.michelin.ns4kafka.service.client.schema.entities.SchemaResponse;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -302,6 +304,18 @@ class SchemaServiceTest {
             .verifyComplete();
     }
 
+    @Test
+    void shouldValidateSchemaReferencingValidatedSubject() {
+        Namespace namespace = buildNamespace();
+        Schema schema = buildSchema();
+
+        StepVerifier.create(schemaService.validateSchema(namespace, schema, Set.of("header-value")))
+            .consumeNextWith(errors -> assertTrue(errors.isEmpty()))
+            .verifyComplete();
+
+        verify(schemaRegistryClient, never()).getSubject(any(), any(), any());
+    }
+
     @Test
     void shouldNotValidateSchema() {
         Namespace namespace = buildNamespace();
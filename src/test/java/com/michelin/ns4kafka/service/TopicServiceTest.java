@@ -16,6 +16,7 @@ import com.michelin.ns4kafka.model.Namespace.NamespaceSpec;
 import com.michelin.ns4kafka.model.Topic;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.TopicRepository;
+import com.michelin.ns4kafka.repository.kafka.TestAccessControlEntryRepository;
 import com.michelin.ns4kafka.service.executor.TopicAsyncExecutor;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.inject.qualifiers.Qualifiers;
@@ -90,27 +91,11 @@ class TopicServiceTest {
         when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(t1, t2, t3, t4));
 
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns-")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns1-topic1")
-                        .build())
-                    .build()
-            ));
+        grantAccessControlEntries(
+            buildAccessControlEntry("acl1", AccessControlEntry.Permission.OWNER,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "ns-"),
+            buildAccessControlEntry("acl2", AccessControlEntry.Permission.OWNER,
+                AccessControlEntry.ResourcePatternType.LITERAL, "ns1-topic1"));
 
         // search topic by name
         Optional<Topic> actualTopicPrefixed = topicService.findByName(ns, "ns-topic1");
@@ -136,8 +121,7 @@ class TopicServiceTest {
             .build();
 
         // no ns4kfk access control entries
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of());
+        grantAccessControlEntries();
 
         // no ns4kfk topics 
         when(topicRepository.findAllForCluster("local"))
@@ -179,8 +163,7 @@ class TopicServiceTest {
             .thenReturn(List.of(t1, t2, t3, t4));
 
         // no ns4kfk access control entries
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of());
+        grantAccessControlEntries();
 
         // list of topics is empty 
         List<Topic> actual = topicService.findAllForNamespace(ns);
@@ -217,46 +200,15 @@ class TopicServiceTest {
         when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(t0, t1, t2, t3, t4));
 
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns0-topic1")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns-")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.READ)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns1-topic1")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.WRITE)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns2-topic1")
-                        .build())
-                    .build()
-            ));
-
+        grantAccessControlEntries(
+            buildAccessControlEntry("acl1", AccessControlEntry.Permission.OWNER,
+                AccessControlEntry.ResourcePatternType.LITERAL, "ns0-topic1"),
+            buildAccessControlEntry("acl2", AccessControlEntry.Permission.OWNER,
+                AccessControlEntry.ResourcePatternType.PREFIXED, "ns-"),
+            buildAccessControlEntry("acl3", AccessControlEntry.Permission.READ,
+                AccessControlEntry.ResourcePatternType.LITERAL, "ns1-topic1"),
+            buildAccessControlEntry("acl4", AccessControlEntry.Permission.WRITE,
+                AccessControlEntry.ResourcePatternType.LITERAL, "ns2-topic1"));
 
         // search for topics into namespace
         List<Topic> actual = topicService.findAllForNamespace(ns);
@@ -306,28 +258,6 @@ class TopicServiceTest {
             "ns2-topic1"))
             .thenReturn(false);
 
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns-")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns1-topic1")
-                        .build())
-                    .build()
-            ));
-
         // no topic exists into ns4kfk
         when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of());
@@ -393,28 +323,6 @@ class TopicServiceTest {
             t4.getMetadata().getName()))
             .thenReturn(false);
 
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns-")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns1-topic1")
-                        .build())
-                    .build()
-            ));
-
         // all topic exists into ns4kfk
         when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(t1, t2, t3, t4));
@@ -465,28 +373,6 @@ class TopicServiceTest {
             "ns2-topic1"))
             .thenReturn(false);
 
-        when(accessControlEntryService.findAllGrantedToNamespace(ns))
-            .thenReturn(List.of(
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns-")
-                        .build())
-                    .build(),
-                AccessControlEntry.builder()
-                    .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .permission(AccessControlEntry.Permission.OWNER)
-                        .grantedTo("namespace")
-                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
-                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
-                        .resource("ns1-topic1")
-                        .build())
-                    .build()
-            ));
-
         // partial number of topics exists into ns4kfk
         when(topicRepository.findAllForCluster("local"))
             .thenReturn(List.of(t1));
@@ -1101,6 +987,39 @@ class TopicServiceTest {
                 + "tags should start with letter and be followed by alphanumeric or _ characters.",
                 validationErrors.getFirst());
     }
+
+    /**
+     * Resolve the topic owners with the given ACLs, through a real ACL service and repository.
+     *
+     * @param accessControlEntries The ACLs granted to the namespace
+     */
+    private void grantAccessControlEntries(AccessControlEntry... accessControlEntries) {
+        TestAccessControlEntryRepository accessControlEntryRepository = new TestAccessControlEntryRepository();
+        accessControlEntryRepository.applyAll(accessControlEntries);
+
+        AccessControlEntryService realAccessControlEntryService = new AccessControlEntryService();
+        realAccessControlEntryService.accessControlEntryRepository = accessControlEntryRepository;
+        topicService.accessControlEntryService = realAccessControlEntryService;
+    }
+
+    private static AccessControlEntry buildAccessControlEntry(String name, AccessControlEntry.Permission permission,
+                                                              AccessControlEntry.ResourcePatternType patternType,
+                                                              String resource) {
+        return AccessControlEntry.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .namespace("namespace")
+                .cluster("local")
+                .build())
+            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                .permission(permission)
+                .grantedTo("namespace")
+                .resourcePatternType(patternType)
+                .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                .resource(resource)
+                .build())
+            .build();
+    }
 }
 
 
@@ -0,0 +1,127 @@
+package com.michelin.ns4kafka.service.client.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import com.michelin.ns4kafka.service.client.schema.entities.SchemaRequest;
+import com.michelin.ns4kafka.service.client.schema.entities.SchemaResponse;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.client.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaRegistryClientTest {
+    private static final String LOCAL_CLUSTER = "local";
+
+    @Mock
+    HttpClient httpClient;
+
+    @Mock
+    List<ManagedClusterProperties> managedClusterProperties;
+
+    @InjectMocks
+    SchemaRegistryClient schemaRegistryClient;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnCachedSubjectsWhileRefreshing() {
+        mockSchemaRegistry(Duration.ofNanos(1));
+        when(httpClient.exchange(any(HttpRequest.class), eq(String[].class)))
+            .thenReturn(subjectsResponse("etag1", "subject1"))
+            .thenReturn(subjectsResponse("etag2", "subject1", "subject2"))
+            .thenReturn(Mono.just(HttpResponse.notModified()));
+
+        assertEquals(List.of("subject1"), getSubjects());
+        assertEquals(List.of("subject1"), getSubjects());
+        assertEquals(List.of("subject1", "subject2"), getSubjects());
+        assertEquals(List.of("subject1", "subject2"), getSubjects());
+
+        ArgumentCaptor<HttpRequest<?>> requests = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient, times(4)).exchange(requests.capture(), eq(String[].class));
+        assertNull(requests.getAllValues().get(0).getHeaders().get(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("etag1", requests.getAllValues().get(1).getHeaders().get(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("etag2", requests.getAllValues().get(2).getHeaders().get(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("etag2", requests.getAllValues().get(3).getHeaders().get(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldUpdateCachedSubjectsOnRegisterAndDelete() {
+        mockSchemaRegistry(Duration.ofMinutes(1));
+        when(httpClient.exchange(any(HttpRequest.class), eq(String[].class)))
+            .thenReturn(subjectsResponse("etag1", "subject1"));
+        when(httpClient.retrieve(any(HttpRequest.class), eq(SchemaResponse.class)))
+            .thenReturn(Mono.just(SchemaResponse.builder().id(1).build()));
+        when(httpClient.retrieve(any(HttpRequest.class), eq(Integer[].class)))
+            .thenReturn(Mono.just(new Integer[] {1}));
+
+        assertEquals(List.of("subject1"), getSubjects());
+
+        schemaRegistryClient.register(LOCAL_CLUSTER, "subject2", SchemaRequest.builder().build()).block();
+        assertEquals(List.of("subject1", "subject2"), getSubjects());
+
+        schemaRegistryClient.deleteSubject(LOCAL_CLUSTER, "subject1", true).block();
+        assertEquals(List.of("subject2"), getSubjects());
+
+        verify(httpClient).exchange(any(HttpRequest.class), eq(String[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotOverwriteRegisteredSubjectWithOlderRefresh() {
+        mockSchemaRegistry(Duration.ofNanos(1));
+        when(httpClient.retrieve(any(HttpRequest.class), eq(SchemaResponse.class)))
+            .thenReturn(Mono.just(SchemaResponse.builder().id(1).build()));
+
+        // The subject is registered while the refresh is in flight, so the refresh does not list it
+        when(httpClient.exchange(any(HttpRequest.class), eq(String[].class)))
+            .thenReturn(subjectsResponse("etag1", "subject1"))
+            .thenReturn(Mono.defer(() -> {
+                schemaRegistryClient.register(LOCAL_CLUSTER, "subject2", SchemaRequest.builder().build()).block();
+                return subjectsResponse("etag1", "subject1");
+            }))
+            .thenReturn(subjectsResponse("etag2", "subject1", "subject2"));
+
+        assertEquals(List.of("subject1"), getSubjects());
+        assertEquals(List.of("subject1"), getSubjects());
+        assertEquals(List.of("subject1", "subject2"), getSubjects());
+        assertEquals(List.of("subject1", "subject2"), getSubjects());
+    }
+
+    private void mockSchemaRegistry(Duration subjectsCacheTtl) {
+        ManagedClusterProperties.SchemaRegistryProperties schemaRegistryProperties =
+            new ManagedClusterProperties.SchemaRegistryProperties();
+        schemaRegistryProperties.setUrl("http://localhost:8081");
+        schemaRegistryProperties.setSubjectsCacheTtl(subjectsCacheTtl);
+
+        ManagedClusterProperties managedClusterProperty = new ManagedClusterProperties(LOCAL_CLUSTER);
+        managedClusterProperty.setSchemaRegistry(schemaRegistryProperties);
+
+        when(managedClusterProperties.stream()).thenAnswer(invocation -> Stream.of(managedClusterProperty));
+    }
+
+    private List<String> getSubjects() {
+        return schemaRegistryClient.getSubjects(LOCAL_CLUSTER).collectList().block();
+    }
+
+    private static Mono<HttpResponse<String[]>> subjectsResponse(String etag, String... subjects) {
+        return Mono.just(HttpResponse.ok(subjects).header(HttpHeaders.ETAG, etag));
+    }
+}
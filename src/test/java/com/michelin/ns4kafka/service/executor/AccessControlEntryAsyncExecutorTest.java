@@ -0,0 +1,191 @@
+package com.michelin.ns4kafka.service.executor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.Metadata;
+import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import com.michelin.ns4kafka.repository.NamespaceRepository;
+import com.michelin.ns4kafka.repository.ResourceChangedEvent;
+import com.michelin.ns4kafka.service.AccessControlEntryService;
+import com.michelin.ns4kafka.service.ConnectorService;
+import com.michelin.ns4kafka.service.StreamService;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AccessControlEntryAsyncExecutorTest {
+    private static final String LOCAL_CLUSTER = "local";
+
+    @Mock
+    ManagedClusterProperties managedClusterProperties;
+
+    @Mock
+    AccessControlEntryService accessControlEntryService;
+
+    @Mock
+    StreamService streamService;
+
+    @Mock
+    ConnectorService connectorService;
+
+    @Mock
+    NamespaceRepository namespaceRepository;
+
+    @Mock
+    Admin adminClient;
+
+    @Mock
+    DescribeAclsResult describeAclsResult;
+
+    @Mock
+    CreateAclsResult createAclsResult;
+
+    @Mock
+    DeleteAclsResult deleteAclsResult;
+
+    @InjectMocks
+    AccessControlEntryAsyncExecutor accessControlEntryAsyncExecutor;
+
+    @Test
+    void shouldCollectAclsAgainWhenChangedDuringCollection() {
+        Namespace namespace = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("namespace")
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .spec(Namespace.NamespaceSpec.builder()
+                .kafkaUser("user1")
+                .build())
+            .build();
+
+        AccessControlEntry acl = AccessControlEntry.builder()
+            .metadata(Metadata.builder()
+                .name("acl")
+                .namespace("namespace")
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                .permission(AccessControlEntry.Permission.OWNER)
+                .resource("prefix.")
+                .grantedTo("namespace")
+                .build())
+            .build();
+
+        List<AclBinding> aclBindings = List.of(AclOperation.WRITE, AclOperation.READ, AclOperation.DESCRIBE_CONFIGS)
+            .stream()
+            .map(operation -> new AclBinding(new ResourcePattern(ResourceType.TOPIC, "prefix.", PatternType.PREFIXED),
+                new org.apache.kafka.common.acl.AccessControlEntry("User:user1", "*", operation,
+                    AclPermissionType.ALLOW)))
+            .toList();
+
+        when(managedClusterProperties.isManageAcls()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getProvider()).thenReturn(ManagedClusterProperties.KafkaProvider.SELF_MANAGED);
+        when(managedClusterProperties.getAclsDescribePerUserThreshold()).thenReturn(10);
+        when(managedClusterProperties.isDropUnsyncAcls()).thenReturn(true);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(namespaceRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(namespace));
+        when(streamService.findAllForNamespace(namespace)).thenReturn(List.of());
+
+        // The ACL is revoked, and its change published, while the ACLs of the first run are collected
+        AtomicReference<List<AccessControlEntry>> storedAcls = new AtomicReference<>(List.of(acl));
+        when(accessControlEntryService.findAllGrantedToNamespace(namespace)).thenAnswer(invocation -> {
+            List<AccessControlEntry> acls = storedAcls.get();
+            if (!acls.isEmpty()) {
+                storedAcls.set(List.of());
+                accessControlEntryAsyncExecutor.onResourceChanged(new ResourceChangedEvent(acl, null));
+            }
+            return acls;
+        });
+
+        when(adminClient.describeAcls(any())).thenReturn(describeAclsResult);
+        when(describeAclsResult.values())
+            .thenReturn(KafkaFuture.<Collection<AclBinding>>completedFuture(List.of()))
+            .thenReturn(KafkaFuture.<Collection<AclBinding>>completedFuture(List.of()))
+            .thenReturn(KafkaFuture.<Collection<AclBinding>>completedFuture(aclBindings))
+            .thenReturn(KafkaFuture.<Collection<AclBinding>>completedFuture(List.of()));
+        when(adminClient.createAcls(anyList())).thenReturn(createAclsResult);
+        when(createAclsResult.values()).thenReturn(Map.of());
+        when(adminClient.deleteAcls(anyList())).thenReturn(deleteAclsResult);
+        when(deleteAclsResult.values()).thenReturn(Map.of());
+
+        accessControlEntryAsyncExecutor.run();
+        accessControlEntryAsyncExecutor.run();
+
+        verify(accessControlEntryService, times(4)).findAllGrantedToNamespace(namespace);
+        verify(adminClient).createAcls(argThat(acls -> acls.containsAll(aclBindings)));
+        verify(adminClient).deleteAcls(argThat(filters -> filters.size() == aclBindings.size()));
+    }
+
+    @Test
+    void shouldDescribeAllAclsAboveThreshold() {
+        Namespace namespace = Namespace.builder()
+            .metadata(Metadata.builder()
+                .name("namespace")
+                .cluster(LOCAL_CLUSTER)
+                .build())
+            .spec(Namespace.NamespaceSpec.builder()
+                .kafkaUser("user1")
+                .build())
+            .build();
+
+        AclBinding managedAcl = new AclBinding(new ResourcePattern(ResourceType.TOPIC, "prefix.", PatternType.PREFIXED),
+            new org.apache.kafka.common.acl.AccessControlEntry("User:user1", "*", AclOperation.READ,
+                AclPermissionType.ALLOW));
+
+        AclBinding unmanagedAcl = new AclBinding(
+            new ResourcePattern(ResourceType.TOPIC, "other.", PatternType.PREFIXED),
+            new org.apache.kafka.common.acl.AccessControlEntry("User:user2", "*", AclOperation.READ,
+                AclPermissionType.ALLOW));
+
+        when(managedClusterProperties.isManageAcls()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getProvider()).thenReturn(ManagedClusterProperties.KafkaProvider.SELF_MANAGED);
+        when(managedClusterProperties.getAclsDescribePerUserThreshold()).thenReturn(1);
+        when(managedClusterProperties.isDropUnsyncAcls()).thenReturn(true);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(namespaceRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(namespace));
+        when(accessControlEntryService.findAllGrantedToNamespace(namespace)).thenReturn(List.of());
+        when(streamService.findAllForNamespace(namespace)).thenReturn(List.of());
+        when(adminClient.describeAcls(any())).thenReturn(describeAclsResult);
+        when(describeAclsResult.values())
+            .thenReturn(KafkaFuture.<Collection<AclBinding>>completedFuture(List.of(managedAcl, unmanagedAcl)));
+        when(adminClient.createAcls(anyList())).thenReturn(createAclsResult);
+        when(createAclsResult.values()).thenReturn(Map.of());
+        when(adminClient.deleteAcls(anyList())).thenReturn(deleteAclsResult);
+        when(deleteAclsResult.values()).thenReturn(Map.of());
+
+        accessControlEntryAsyncExecutor.run();
+
+        verify(adminClient).describeAcls(AclBindingFilter.ANY);
+        verify(adminClient).deleteAcls(List.of(managedAcl.toFilter()));
+    }
+}
@@ -7,14 +7,18 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.ns4kafka.model.Metadata;
 import com.michelin.ns4kafka.model.Topic;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import com.michelin.ns4kafka.repository.ResourceChangedEvent;
 import com.michelin.ns4kafka.repository.TopicRepository;
 import com.michelin.ns4kafka.service.client.schema.SchemaRegistryClient;
 import com.michelin.ns4kafka.service.client.schema.entities.TagInfo;
@@ -24,14 +28,29 @@ import com.michelin.ns4kafka.service.client.schema.entities.TopicEntityAttribute
 import com.michelin.ns4kafka.service.client.schema.entities.TopicListResponse;
 import io.micronaut.http.HttpResponse;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigsResult;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DeleteTopicsResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.config.ConfigResource;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -71,6 +90,21 @@ class TopicAsyncExecutorTest {
     @Mock
     KafkaFuture<Void> kafkaFuture;
 
+    @Mock
+    ListTopicsResult listTopicsResult;
+
+    @Mock
+    CreateTopicsResult createTopicsResult;
+
+    @Mock
+    AlterConfigsResult alterConfigsResult;
+
+    @Mock
+    DescribeTopicsResult describeTopicsResult;
+
+    @Mock
+    DescribeConfigsResult describeConfigsResult;
+
     @InjectMocks
     TopicAsyncExecutor topicAsyncExecutor;
 
@@ -608,4 +642,130 @@ class TopicAsyncExecutorTest {
         assertTrue(brokerTopics.get(TOPIC_NAME).getSpec().getTags().isEmpty());
         assertTrue(brokerTopics.get(TOPIC_NAME2).getSpec().getTags().isEmpty());
     }
+
+    @Test
+    void shouldSynchronizeOnlyTopicsWhoseSpecChanged() {
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(adminClient.listTopics()).thenReturn(listTopicsResult);
+        when(listTopicsResult.listings())
+            .thenReturn(KafkaFuture.<Collection<TopicListing>>completedFuture(List.of()));
+        when(adminClient.createTopics(anyList())).thenReturn(createTopicsResult);
+        when(createTopicsResult.values()).thenReturn(Map.of(TOPIC_NAME, KafkaFuture.completedFuture(null)));
+        when(adminClient.incrementalAlterConfigs(anyMap())).thenReturn(alterConfigsResult);
+
+        Topic topic = buildTopic(TOPIC_NAME, LOCAL_CLUSTER, 3);
+        Topic topic2 = buildTopic(TOPIC_NAME2, LOCAL_CLUSTER, 3);
+        when(topicRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(topic, topic2));
+
+        topicAsyncExecutor.onResourceChanged(
+            new ResourceChangedEvent(buildTopic(TOPIC_NAME, LOCAL_CLUSTER, 1), topic));
+        topicAsyncExecutor.onResourceChanged(
+            new ResourceChangedEvent(buildTopic(TOPIC_NAME2, LOCAL_CLUSTER, 3), topic2));
+        topicAsyncExecutor.onResourceChanged(new ResourceChangedEvent(null, buildTopic(TOPIC_NAME3, "other", 3)));
+        topicAsyncExecutor.synchronizePendingTopics();
+
+        verify(topicRepository).createAll(List.of(topic));
+    }
+
+    @Test
+    void shouldNotCollectTopicsWhenNoTopicChanged() {
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+
+        topicAsyncExecutor.onResourceChanged(new ResourceChangedEvent(buildTopic(TOPIC_NAME, LOCAL_CLUSTER, 3),
+            buildTopic(TOPIC_NAME, LOCAL_CLUSTER, 3)));
+        topicAsyncExecutor.onResourceChanged(
+            new ResourceChangedEvent(buildTopic(TOPIC_NAME2, LOCAL_CLUSTER, 3), null));
+        topicAsyncExecutor.synchronizePendingTopics();
+
+        verify(managedClusterProperties, never()).getAdminClient();
+    }
+
+    @Test
+    void shouldCollectTopicsOfSucceededChunksOnly() throws ExecutionException, InterruptedException, TimeoutException {
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTopicsDescribeChunkSize()).thenReturn(1);
+        when(managedClusterProperties.getTopicsDescribeParallelism()).thenReturn(2);
+
+        Node node = new Node(0, "localhost", 9092);
+        when(adminClient.describeTopics(List.of(TOPIC_NAME))).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.allTopicNames()).thenReturn(KafkaFuture.completedFuture(Map.of(TOPIC_NAME,
+            new TopicDescription(TOPIC_NAME, false,
+                List.of(new TopicPartitionInfo(0, node, List.of(node), List.of(node)))))));
+        when(adminClient.describeTopics(List.of(TOPIC_NAME2))).thenThrow(new KafkaException("Describe failed"));
+
+        ConfigResource configResource = new ConfigResource(ConfigResource.Type.TOPIC, TOPIC_NAME);
+        when(adminClient.describeConfigs(List.of(configResource))).thenReturn(describeConfigsResult);
+        when(describeConfigsResult.all()).thenReturn(KafkaFuture.completedFuture(Map.of(configResource,
+            new Config(List.of(new ConfigEntry("cleanup.policy", "compact"))))));
+
+        Map<String, Topic> topics = topicAsyncExecutor.collectBrokerTopicsFromNames(List.of(TOPIC_NAME, TOPIC_NAME2));
+
+        assertEquals(1, topics.size());
+        assertEquals(1, topics.get(TOPIC_NAME).getSpec().getPartitions());
+        assertEquals(1, topics.get(TOPIC_NAME).getSpec().getReplicationFactor());
+    }
+
+    @Test
+    void shouldSynchronizeTopicsOfFailedChunksAgain()
+        throws ExecutionException, InterruptedException, TimeoutException {
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTopicsDescribeChunkSize()).thenReturn(1);
+        when(adminClient.listTopics()).thenReturn(listTopicsResult);
+        when(listTopicsResult.listings()).thenReturn(KafkaFuture.<Collection<TopicListing>>completedFuture(List.of(
+            new TopicListing(TOPIC_NAME, Uuid.ZERO_UUID, false),
+            new TopicListing(TOPIC_NAME2, Uuid.ZERO_UUID, false))));
+        when(adminClient.createTopics(anyList())).thenReturn(createTopicsResult);
+        when(adminClient.incrementalAlterConfigs(anyMap())).thenReturn(alterConfigsResult);
+
+        Topic topic = buildTopic(TOPIC_NAME, LOCAL_CLUSTER, 1);
+        Topic topic2 = buildTopic(TOPIC_NAME2, LOCAL_CLUSTER, 1);
+        when(topicRepository.findAllForCluster(LOCAL_CLUSTER)).thenReturn(List.of(topic, topic2));
+
+        // The chunk of the second topic fails during the full synchronization, then succeeds
+        Node node = new Node(0, "localhost", 9092);
+        DescribeTopicsResult describeTopicsResult2 = mock(DescribeTopicsResult.class);
+        DescribeConfigsResult describeConfigsResult2 = mock(DescribeConfigsResult.class);
+        when(adminClient.describeTopics(List.of(TOPIC_NAME))).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.allTopicNames()).thenReturn(KafkaFuture.completedFuture(Map.of(TOPIC_NAME,
+            new TopicDescription(TOPIC_NAME, false,
+                List.of(new TopicPartitionInfo(0, node, List.of(node), List.of(node)))))));
+        when(adminClient.describeTopics(List.of(TOPIC_NAME2)))
+            .thenThrow(new KafkaException("Describe failed"))
+            .thenReturn(describeTopicsResult2);
+        when(describeTopicsResult2.allTopicNames()).thenReturn(KafkaFuture.completedFuture(Map.of(TOPIC_NAME2,
+            new TopicDescription(TOPIC_NAME2, false,
+                List.of(new TopicPartitionInfo(0, node, List.of(node), List.of(node)))))));
+
+        ConfigResource configResource = new ConfigResource(ConfigResource.Type.TOPIC, TOPIC_NAME);
+        ConfigResource configResource2 = new ConfigResource(ConfigResource.Type.TOPIC, TOPIC_NAME2);
+        when(adminClient.describeConfigs(List.of(configResource))).thenReturn(describeConfigsResult);
+        when(describeConfigsResult.all())
+            .thenReturn(KafkaFuture.completedFuture(Map.of(configResource, new Config(List.of()))));
+        when(adminClient.describeConfigs(List.of(configResource2))).thenReturn(describeConfigsResult2);
+        when(describeConfigsResult2.all())
+            .thenReturn(KafkaFuture.completedFuture(Map.of(configResource2, new Config(List.of()))));
+
+        topicAsyncExecutor.synchronizeTopics();
+        topicAsyncExecutor.synchronizePendingTopics();
+
+        verify(adminClient).describeTopics(List.of(TOPIC_NAME));
+        verify(adminClient, times(2)).describeTopics(List.of(TOPIC_NAME2));
+        verify(adminClient).describeConfigs(List.of(configResource2));
+    }
+
+    private static Topic buildTopic(String name, String cluster, int partitions) {
+        return Topic.builder()
+            .metadata(Metadata.builder()
+                .name(name)
+                .cluster(cluster)
+                .build())
+            .spec(Topic.TopicSpec.builder()
+                .partitions(partitions)
+                .replicationFactor(1)
+                .build())
+            .build();
+    }
 }
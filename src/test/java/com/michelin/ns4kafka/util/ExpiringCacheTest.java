@@ -0,0 +1,83 @@
+package com.michelin.ns4kafka.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Expiring cache test.
+ */
+class ExpiringCacheTest {
+    @Test
+    void shouldExpireEntries() {
+        AtomicLong clock = new AtomicLong();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofSeconds(10), 10, clock::get);
+
+        cache.put("key", "value");
+        assertEquals(Optional.of("value"), cache.get("key"));
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(cache.get("key").isEmpty());
+    }
+
+    @Test
+    void shouldNotCacheWhenDisabled() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ZERO, 10);
+
+        cache.put("key", "value");
+        assertTrue(cache.get("key").isEmpty());
+    }
+
+    @Test
+    void shouldEvictEntriesClosestToExpirationWhenFull() {
+        AtomicLong clock = new AtomicLong();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofSeconds(10), 2, clock::get);
+
+        cache.put("key1", "value1");
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        cache.put("key2", "value2");
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        cache.put("key1", "value1");
+        cache.put("key3", "value3");
+
+        assertTrue(cache.get("key2").isEmpty());
+        assertEquals(Optional.of("value1"), cache.get("key1"));
+        assertEquals(Optional.of("value3"), cache.get("key3"));
+    }
+
+    @Test
+    void shouldPurgeExpiredEntriesOnWrite() {
+        AtomicLong clock = new AtomicLong();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofSeconds(10), 3, clock::get);
+
+        cache.put("key1", "value1");
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        cache.put("key2", "value2");
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        cache.put("key3", "value3");
+        cache.put("key4", "value4");
+
+        assertTrue(cache.get("key1").isEmpty());
+        assertEquals(Optional.of("value2"), cache.get("key2"));
+        assertEquals(Optional.of("value3"), cache.get("key3"));
+        assertEquals(Optional.of("value4"), cache.get("key4"));
+    }
+
+    @Test
+    void shouldInvalidateEntries() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofSeconds(10), 10);
+        cache.put("cluster/connect1", "value1");
+        cache.put("cluster/connect2", "value2");
+
+        cache.invalidateIf(key -> key.endsWith("connect1"));
+        assertTrue(cache.get("cluster/connect1").isEmpty());
+        assertEquals(Optional.of("value2"), cache.get("cluster/connect2"));
+
+        cache.invalidateAll();
+        assertTrue(cache.get("cluster/connect2").isEmpty());
+    }
+}
@@ -0,0 +1,91 @@
+package com.michelin.ns4kafka.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.AccessControlEntry.ResourcePatternType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Resource pattern trie test.
+ */
+class ResourcePatternTrieTest {
+    @Test
+    void shouldFindPrefixedAndLiteralPatterns() {
+        ResourcePatternTrie<String> trie = new ResourcePatternTrie<>();
+        trie.put("main", ResourcePatternType.PREFIXED, "ns1/acl1", "ns1");
+        trie.put("main.sub", ResourcePatternType.PREFIXED, "ns2/acl1", "ns2");
+        trie.put("main.topic", ResourcePatternType.LITERAL, "ns3/acl1", "ns3");
+        trie.put("other", ResourcePatternType.LITERAL, "ns4/acl1", "ns4");
+
+        assertEquals(List.of("ns1"), trie.findAllMatching("main"));
+        assertEquals(List.of("ns1", "ns3"), trie.findAllMatching("main.topic"));
+        assertEquals(List.of("ns1", "ns2"), trie.findAllMatching("main.sub.topic"));
+        assertEquals(List.of("ns4"), trie.findAllMatching("other"));
+        assertTrue(trie.findAllMatching("othe").isEmpty());
+        assertTrue(trie.findAllMatching("other.topic").isEmpty());
+        assertTrue(trie.findAllMatching("mai").isEmpty());
+    }
+
+    @Test
+    void shouldRemovePatterns() {
+        ResourcePatternTrie<String> trie = new ResourcePatternTrie<>();
+        trie.put("main", ResourcePatternType.PREFIXED, "ns1/acl1", "ns1");
+        trie.put("main", ResourcePatternType.PREFIXED, "ns2/acl1", "ns2");
+        trie.put("main.topic", ResourcePatternType.LITERAL, "ns3/acl1", "ns3");
+
+        trie.remove("main", ResourcePatternType.PREFIXED, "ns1/acl1");
+        assertEquals(List.of("ns2", "ns3"), trie.findAllMatching("main.topic"));
+
+        trie.remove("main.topic", ResourcePatternType.LITERAL, "ns3/acl1");
+        assertEquals(List.of("ns2"), trie.findAllMatching("main.topic"));
+
+        trie.remove("main", ResourcePatternType.PREFIXED, "ns2/acl1");
+        assertTrue(trie.findAllMatching("main.topic").isEmpty());
+
+        trie.remove("unknown", ResourcePatternType.LITERAL, "ns4/acl1");
+        assertTrue(trie.findAllMatching("unknown").isEmpty());
+    }
+
+    @Test
+    void shouldCheckAnyMatchingPattern() {
+        ResourcePatternTrie<String> trie = new ResourcePatternTrie<>();
+        trie.put("main.sub", ResourcePatternType.PREFIXED, "ns1/acl1", "ns1");
+        trie.put("main.topic", ResourcePatternType.LITERAL, "ns2/acl1", "ns2");
+
+        assertTrue(trie.anyMatching("main.sub"));
+        assertTrue(trie.anyMatching("main.sub.topic"));
+        assertTrue(trie.anyMatching("main.topic"));
+        assertFalse(trie.anyMatching("main.topic2"));
+        assertFalse(trie.anyMatching("main"));
+        assertFalse(trie.anyMatching("other"));
+
+        trie.put("", ResourcePatternType.PREFIXED, "ns3/acl1", "ns3");
+        assertTrue(trie.anyMatching("other"));
+    }
+
+    @Test
+    void shouldSplitAndMergeSharedPrefixes() {
+        ResourcePatternTrie<String> trie = new ResourcePatternTrie<>();
+        trie.put("topic.a", ResourcePatternType.LITERAL, "ns1/acl1", "ns1");
+        trie.put("topic.b", ResourcePatternType.LITERAL, "ns2/acl1", "ns2");
+        trie.put("top", ResourcePatternType.PREFIXED, "ns3/acl1", "ns3");
+
+        assertEquals(List.of("ns3", "ns1"), trie.findAllMatching("topic.a"));
+        assertEquals(List.of("ns3", "ns2"), trie.findAllMatching("topic.b"));
+        assertEquals(List.of("ns3"), trie.findAllMatching("topic."));
+
+        trie.remove("top", ResourcePatternType.PREFIXED, "ns3/acl1");
+        trie.remove("topic.a", ResourcePatternType.LITERAL, "ns1/acl1");
+
+        assertTrue(trie.findAllMatching("topic.a").isEmpty());
+        assertEquals(List.of("ns2"), trie.findAllMatching("topic.b"));
+        assertFalse(trie.anyMatching("topic."));
+
+        trie.put("topic.a", ResourcePatternType.LITERAL, "ns1/acl1", "ns1");
+        assertEquals(List.of("ns1"), trie.findAllMatching("topic.a"));
+        assertEquals(List.of("ns2"), trie.findAllMatching("topic.b"));
+    }
+}
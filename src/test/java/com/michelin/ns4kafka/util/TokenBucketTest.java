@@ -0,0 +1,37 @@
+package com.michelin.ns4kafka.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Token bucket test.
+ */
+class TokenBucketTest {
+    @Test
+    void shouldServeBurstThenWait() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket tokenBucket = new TokenBucket(10, 2, clock::get);
+
+        assertEquals(0, tokenBucket.reserve());
+        assertEquals(0, tokenBucket.reserve());
+        assertEquals(100_000_000L, tokenBucket.reserve());
+        assertEquals(200_000_000L, tokenBucket.reserve());
+    }
+
+    @Test
+    void shouldRefillUpToCapacity() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucket tokenBucket = new TokenBucket(10, 2, clock::get);
+
+        assertEquals(0, tokenBucket.reserve());
+        assertEquals(0, tokenBucket.reserve());
+
+        clock.addAndGet(1_000_000_000L);
+
+        assertEquals(0, tokenBucket.reserve());
+        assertEquals(0, tokenBucket.reserve());
+        assertEquals(100_000_000L, tokenBucket.reserve());
+    }
+}